@@ -58,7 +58,8 @@ val generateApi by tasks.registering(org.openapitools.generator.gradle.plugin.ta
 
     configOptions.set(mapOf(
         "hideGenerationTimestamp" to "true",
-        "generateBuilders" to "true"
+        "generateBuilders" to "true",
+        "compiledRouter" to "true"
     ))
 
     generateApiTests.set(false)
@@ -114,8 +115,11 @@ jmh {
     iterations.set(3)
     warmupIterations.set(2)
     fork.set(1)
-    threads.set(1)
+    // Thread count comes from each benchmark's @Threads (default 1), so the
+    // concurrent benchmarks can run at several thread counts in one pass.
     benchmarkMode.set(listOf("thrpt", "avgt"))
+    // gc.alloc.rate.norm reports bytes allocated per operation (see RouteMatchAllocationBenchmark)
+    profilers.set(listOf("gc"))
     timeUnit.set("ms")
     includes.set(listOf(".*Benchmark.*"))
     resultFormat.set("JSON")
@@ -14,8 +14,14 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
- * Benchmark for RouteTree LRU cache effectiveness.
- * Tests cache hit rate, miss rate, and eviction performance.
+ * Benchmark for RouteTree match cache effectiveness (single-threaded).
+ * Tests cache hit rate, miss rate, and eviction performance for each cache policy.
+ *
+ * <p>{@link #benchmarkHotSetUnderScan} alternates 50 hot paths with bursts of unique task IDs:
+ * with {@code LRU} every burst flushes the hot entries (hit rate near 0), with {@code TINY_LFU}
+ * the frequency filter keeps them (every hot lookup hits). The cache hits and misses of each
+ * iteration, from {@link RouteTree#cacheStats()}, are reported next to the throughput.
+ * See {@link ConcurrentCacheBenchmark} for the multi-threaded variant.
  */
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
@@ -25,7 +31,11 @@ import java.util.function.Function;
 @Fork(1)
 public class CacheBenchmark {
 
+    @Param({"NONE", "LRU", "TINY_LFU"})
+    public String policy;
+
     private RouteTree routeTree;
+    private long scanId;
     private List<String> hitPaths;  // Paths that will hit cache
     private List<String> missPaths; // Paths that will miss cache
     private List<String> mixedPaths; // 80% hit, 20% miss
@@ -33,6 +43,7 @@ public class CacheBenchmark {
     @Setup
     public void setup() {
         routeTree = new RouteTree();
+        routeTree.setCache(RouteTree.CachePolicy.valueOf(policy), 100);
         Function<ApiRequest, ApiResponse<?>> handler = req -> ApiResponse.ok("test");
 
         // Add pattern routes (these will be cached)
@@ -70,8 +81,32 @@ public class CacheBenchmark {
         }
     }
 
+    /**
+     * Route cache hits and misses during an iteration, reported alongside each benchmark's throughput.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CacheCounters {
+        private RouteTree routeTree;
+        private RouteTree.CacheStats start;
+
+        @Setup(Level.Iteration)
+        public void start(CacheBenchmark benchmark) {
+            routeTree = benchmark.routeTree;
+            start = routeTree.cacheStats();
+        }
+
+        public long cacheHits() {
+            return routeTree.cacheStats().hits() - start.hits();
+        }
+
+        public long cacheMisses() {
+            return routeTree.cacheStats().misses() - start.misses();
+        }
+    }
+
     @Benchmark
-    public void benchmarkCacheHitRate100Percent(Blackhole bh) {
+    public void benchmarkCacheHitRate100Percent(CacheCounters counters, Blackhole bh) {
         // All paths are in cache
         for (String path : hitPaths) {
             bh.consume(routeTree.match(path, HttpMethod.GET));
@@ -79,7 +114,7 @@ public class CacheBenchmark {
     }
 
     @Benchmark
-    public void benchmarkCacheMissRate100Percent(Blackhole bh) {
+    public void benchmarkCacheMissRate100Percent(CacheCounters counters, Blackhole bh) {
         // All paths are cache misses
         for (String path : missPaths) {
             bh.consume(routeTree.match(path, HttpMethod.GET));
@@ -87,7 +122,7 @@ public class CacheBenchmark {
     }
 
     @Benchmark
-    public void benchmarkMixedWorkload80_20(Blackhole bh) {
+    public void benchmarkMixedWorkload80_20(CacheCounters counters, Blackhole bh) {
         // 80% hit, 20% miss - realistic scenario
         for (String path : mixedPaths) {
             bh.consume(routeTree.match(path, HttpMethod.GET));
@@ -95,10 +130,21 @@ public class CacheBenchmark {
     }
 
     @Benchmark
-    public void benchmarkLruEviction(Blackhole bh) {
+    public void benchmarkLruEviction(CacheCounters counters, Blackhole bh) {
         // Force cache eviction by adding 110 entries (exceeds 100 limit)
         for (int i = 0; i < 110; i++) {
             bh.consume(routeTree.match("/api/items/eviction-" + i, HttpMethod.GET));
         }
     }
+
+    @Benchmark
+    public void benchmarkHotSetUnderScan(CacheCounters counters, Blackhole bh) {
+        // The hot paths, then a burst of one-off task IDs (twice the hot set) before they come back
+        for (String path : hitPaths) {
+            bh.consume(routeTree.match(path, HttpMethod.GET));
+        }
+        for (int i = 0; i < 100; i++) {
+            bh.consume(routeTree.match("/api/items/task-" + scanId++, HttpMethod.GET));
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package com.example.api.benchmark;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import com.example.api.routing.CompiledRouter;
+import com.example.api.routing.RouteTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark comparing the generation-time CompiledRouter against the runtime RouteTree
+ * and regex matching (as in {@link RouteTreeVsRegexBenchmark}) for the example spec's routes.
+ *
+ * <p>Paths carry distinct ids so the RouteTree match cache misses most of the time,
+ * which is the case the compiled router is meant to speed up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class CompiledRouterBenchmark {
+
+    private static final int DISTINCT_IDS = 1_000;
+
+    private CompiledRouter compiledRouter;
+    private RouteTree routeTree;
+    private List<Pattern> regexRoutes;
+    private List<String> testPaths;
+
+    @Setup
+    public void setup() {
+        Function<ApiRequest, ApiResponse<?>> handler = req -> ApiResponse.ok("test");
+        compiledRouter = new CompiledRouter();
+        RouteTree tree = new RouteTree();
+        regexRoutes = new ArrayList<>();
+
+        for (int route = 0; route < CompiledRouter.ROUTE_COUNT; route++) {
+            String pattern = CompiledRouter.pattern(route);
+            compiledRouter.register(route, handler);
+            tree.addRoute(pattern, CompiledRouter.method(route), handler);
+            regexRoutes.add(Pattern.compile(pattern.replaceAll("\\{[^}]+\\}", "([^/]+)")));
+        }
+        routeTree = tree.freeze();
+
+        testPaths = new ArrayList<>();
+        for (int i = 0; i < DISTINCT_IDS; i++) {
+            testPaths.add("/api/tasks/task-" + i);
+            testPaths.add("/api/tasks/task-" + i + "/status");
+        }
+        testPaths.add("/api/tasks");
+        testPaths.add("/api/statistics");
+        testPaths.add("/api/browser/notify");
+        testPaths.add("/api/nonexistent");
+    }
+
+    @Benchmark
+    public void benchmarkCompiledRouter(Blackhole bh) {
+        for (String path : testPaths) {
+            bh.consume(compiledRouter.match(path, HttpMethod.GET));
+            bh.consume(compiledRouter.match(path, HttpMethod.PATCH));
+        }
+    }
+
+    @Benchmark
+    public void benchmarkRouteTree(Blackhole bh) {
+        for (String path : testPaths) {
+            bh.consume(routeTree.match(path, HttpMethod.GET));
+            bh.consume(routeTree.match(path, HttpMethod.PATCH));
+        }
+    }
+
+    @Benchmark
+    public void benchmarkRegexMatcher(Blackhole bh) {
+        for (String path : testPaths) {
+            for (Pattern pattern : regexRoutes) {
+                if (pattern.matcher(path).matches()) {
+                    bh.consume(pattern);
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.api.benchmark;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import com.example.api.routing.RouteTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Multi-threaded variant of {@link CacheBenchmark}.
+ * All threads share one RouteTree, the way CEF IO threads share a handler,
+ * so the score shows how the match cache scales with thread count.
+ *
+ * <p>Compare the per-thread-count scores of each workload: a cache with a global
+ * lock flattens out, a lock-free one keeps scaling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ConcurrentCacheBenchmark {
+
+    private static final int HOT_PATHS = 50;
+    private static final int COLD_PATHS = 5_000;
+
+    private RouteTree routeTree;
+    private String[] hotPaths;
+    private String[] coldPaths;
+
+    @Setup
+    public void setup() {
+        routeTree = new RouteTree();
+        Function<ApiRequest, ApiResponse<?>> handler = req -> ApiResponse.ok("test");
+        routeTree.addRoute("/api/items/{id}", HttpMethod.GET, handler);
+
+        hotPaths = new String[HOT_PATHS];
+        for (int i = 0; i < HOT_PATHS; i++) {
+            hotPaths[i] = "/api/items/" + i;
+            routeTree.match(hotPaths[i], HttpMethod.GET);
+        }
+
+        coldPaths = new String[COLD_PATHS];
+        for (int i = 0; i < COLD_PATHS; i++) {
+            coldPaths[i] = "/api/items/cold-" + i;
+        }
+    }
+
+    private Object hit() {
+        return routeTree.match(hotPaths[ThreadLocalRandom.current().nextInt(HOT_PATHS)], HttpMethod.GET);
+    }
+
+    private Object mixed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path = random.nextInt(10) < 8
+            ? hotPaths[random.nextInt(HOT_PATHS)]
+            : coldPaths[random.nextInt(COLD_PATHS)];
+        return routeTree.match(path, HttpMethod.GET);
+    }
+
+    // ── 100% cache hits
+
+    @Benchmark
+    @Threads(1)
+    public void hitRate100_1Thread(Blackhole bh) {
+        bh.consume(hit());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void hitRate100_4Threads(Blackhole bh) {
+        bh.consume(hit());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void hitRate100_8Threads(Blackhole bh) {
+        bh.consume(hit());
+    }
+
+    // ── 80% hits / 20% misses (misses insert and evict)
+
+    @Benchmark
+    @Threads(1)
+    public void mixed80_20_1Thread(Blackhole bh) {
+        bh.consume(mixed());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void mixed80_20_4Threads(Blackhole bh) {
+        bh.consume(mixed());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void mixed80_20_8Threads(Blackhole bh) {
+        bh.consume(mixed());
+    }
+}
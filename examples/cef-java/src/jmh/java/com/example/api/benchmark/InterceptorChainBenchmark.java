@@ -0,0 +1,139 @@
+package com.example.api.benchmark;
+
+import com.example.api.interceptor.InterceptorChain;
+import com.example.api.interceptor.RequestInterceptor;
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for running the interceptors of one request: an audit interceptor that only
+ * overrides {@code beforeHandle}, a metrics interceptor that only overrides {@code afterHandle},
+ * an authentication interceptor for the task routes, and a validation interceptor with metadata
+ * for {@code GET /api/tasks/{taskId}} only.
+ *
+ * <p>{@code everyInterceptor} is the previous dispatch: every interceptor is called in every
+ * phase, the authentication interceptor checks the route itself, and the validation interceptor
+ * builds a {@code "METHOD:pattern"} key on each request to find its metadata.
+ * {@code compiledChain} looks up the route's {@link InterceptorChain}, in which the
+ * authentication interceptor is scoped to {@code /api/tasks/**}, the validation metadata is bound
+ * by {@code forRoute}, and each phase only holds the interceptors that override it. The request
+ * is not read by these interceptors, so the benchmark passes the route the way the handler does
+ * and no {@code ApiRequest}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class InterceptorChainBenchmark {
+
+    private static final ApiResponse<String> RESPONSE = ApiResponse.ok("done");
+
+    @Param({"/api/statistics", "/api/tasks/{taskId}"})
+    private String pattern;
+
+    private final HttpMethod method = HttpMethod.GET;
+    private long counter;
+
+    private List<RequestInterceptor> interceptors;
+    private InterceptorChain.Registry registry;
+
+    private class Audit implements RequestInterceptor {
+        @Override
+        public void beforeHandle(ApiRequest request) {
+            counter++;
+        }
+    }
+
+    private class Metrics implements RequestInterceptor {
+        @Override
+        public void afterHandle(ApiResponse<?> response, long durationMs) {
+            counter += durationMs;
+        }
+    }
+
+    /** Authentication that used to check the route itself. */
+    private class Auth implements RequestInterceptor {
+        private final boolean scoped;
+
+        Auth(boolean scoped) {
+            this.scoped = scoped;
+        }
+
+        @Override
+        public void beforeHandle(ApiRequest request) {
+            if (scoped || pattern.startsWith("/api/tasks")) {
+                counter++;
+            }
+        }
+    }
+
+    /** Validation metadata looked up by route key, as in ValidationInterceptor. */
+    private class Validation implements RequestInterceptor {
+        private final Map<String, int[]> metadata = new HashMap<>();
+
+        Validation() {
+            metadata.put("GET:/api/tasks/{taskId}", new int[]{1, 64});
+        }
+
+        @Override
+        public void beforeHandle(ApiRequest request) {
+            int[] bounds = metadata.get(method.name() + ":" + pattern);
+            if (bounds != null) {
+                counter += bounds[1];
+            }
+        }
+
+        @Override
+        public RequestInterceptor forRoute(HttpMethod method, String pattern) {
+            int[] bounds = metadata.get(method.name() + ":" + pattern);
+            if (bounds == null) {
+                return null;
+            }
+            return new RequestInterceptor() {
+                @Override
+                public void beforeHandle(ApiRequest request) {
+                    counter += bounds[1];
+                }
+            };
+        }
+    }
+
+    @Setup
+    public void setup() {
+        interceptors = List.of(new Audit(), new Metrics(), new Auth(false), new Validation());
+        registry = new InterceptorChain.Registry(List.of(
+            InterceptorChain.Scoped.global(new Audit()),
+            InterceptorChain.Scoped.global(new Metrics()),
+            new InterceptorChain.Scoped("/api/tasks/**", new Auth(true)),
+            InterceptorChain.Scoped.global(new Validation())));
+    }
+
+    @Benchmark
+    public void everyInterceptor(Blackhole bh) throws Exception {
+        for (RequestInterceptor interceptor : interceptors) {
+            interceptor.beforeHandle(null);
+        }
+        for (RequestInterceptor interceptor : interceptors) {
+            interceptor.afterHandle(RESPONSE, 1);
+        }
+        bh.consume(counter);
+    }
+
+    @Benchmark
+    public void compiledChain(Blackhole bh) throws Exception {
+        InterceptorChain chain = registry.chainFor(method, pattern);
+        chain.beforeHandle(null);
+        chain.afterHandle(RESPONSE, 1);
+        bh.consume(counter);
+    }
+}
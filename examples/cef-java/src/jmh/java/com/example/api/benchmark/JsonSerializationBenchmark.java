@@ -0,0 +1,85 @@
+package com.example.api.benchmark;
+
+import com.example.api.dto.Task;
+import com.example.api.dto.TaskListResponse;
+import com.example.api.dto.TaskPriority;
+import com.example.api.dto.TaskStatus;
+import com.example.api.protocol.JsonCodec;
+import com.example.api.util.ResponseBuffer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for serializing a JSON response body the way {@code ApiResponseHandler} does.
+ *
+ * <p>{@code stringThenBytes} is the previous approach: {@code writeValueAsString} followed by
+ * {@code getBytes(UTF_8)}, which builds the body as a {@code String} and encodes it again.
+ * {@code writeValueAsBytes} lets Jackson encode UTF-8 directly but still allocates a fresh array
+ * per response. {@code pooledBuffer} writes UTF-8 straight into a {@link ResponseBuffer} taken
+ * from the pool and released afterwards. {@code pooledBufferCachedWriter} does the same with the
+ * {@link JsonCodec} writer for the body's class, as {@code ApiResponseHandler} does, which skips
+ * the per-call serializer lookup of {@code ObjectMapper.writeValue}.
+ * Run with {@code -prof gc} to compare allocation per response; bodies above
+ * {@link ResponseBuffer#MAX_POOLED_CAPACITY} (the 100k case) are not pooled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int items;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private TaskListResponse response;
+
+    @Setup
+    public void setup() {
+        List<Task> tasks = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            tasks.add(new Task(String.valueOf(i), "Task " + i, "Description of task " + i,
+                TaskStatus.values()[i % TaskStatus.values().length],
+                TaskPriority.values()[i % TaskPriority.values().length],
+                "user" + (i % 10), List.of("tag" + (i % 5), "team"),
+                "2024-01-01T10:00:00Z", "2024-01-02T10:00:00Z", "2024-01-10T00:00:00Z"));
+        }
+        response = new TaskListResponse(tasks, items, 0, items);
+    }
+
+    @Benchmark
+    public void stringThenBytes(Blackhole bh) throws IOException {
+        bh.consume(mapper.writeValueAsString(response).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void writeValueAsBytes(Blackhole bh) throws IOException {
+        bh.consume(mapper.writeValueAsBytes(response));
+    }
+
+    @Benchmark
+    public void pooledBuffer(Blackhole bh) throws IOException {
+        ResponseBuffer buffer = ResponseBuffer.acquire();
+        mapper.writeValue(buffer, response);
+        bh.consume(buffer.asByteBuffer());
+        buffer.release();
+    }
+
+    @Benchmark
+    public void pooledBufferCachedWriter(Blackhole bh) throws IOException {
+        ResponseBuffer buffer = ResponseBuffer.acquire();
+        JsonCodec.defaultCodec().writer(response.getClass()).writeValue(buffer, response);
+        bh.consume(buffer.asByteBuffer());
+        buffer.release();
+    }
+}
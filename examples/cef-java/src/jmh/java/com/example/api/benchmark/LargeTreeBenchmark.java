@@ -14,7 +14,8 @@ import java.util.function.Function;
 
 /**
  * Benchmark for RouteTree scalability.
- * Tests performance with different tree sizes: 100, 1000, 10000 routes.
+ * Tests performance with different tree sizes: 100, 1000, 10000 routes,
+ * plus a frozen 5000-route tree shaped like several merged specs (as built by the request handler builder).
  */
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
@@ -81,6 +82,36 @@ public class LargeTreeBenchmark {
         }
     }
 
+    @State(Scope.Benchmark)
+    public static class FrozenSpecs5000 {
+        RouteTree routeTree;
+        List<String> testPaths;
+
+        @Setup
+        public void setup() {
+            RouteTree builder = new RouteTree();
+            testPaths = new ArrayList<>();
+            Function<ApiRequest, ApiResponse<?>> handler = req -> ApiResponse.ok("test");
+
+            // 5 specs x 200 resources x 5 operations, sharing literal segments across specs
+            for (int spec = 0; spec < 5; spec++) {
+                for (int resource = 0; resource < 200; resource++) {
+                    String base = "/api/spec" + spec + "/v1/resource" + resource;
+                    builder.addRoute(base, HttpMethod.GET, handler);
+                    builder.addRoute(base, HttpMethod.POST, handler);
+                    builder.addRoute(base + "/{id}", HttpMethod.GET, handler);
+                    builder.addRoute(base + "/{id}", HttpMethod.PUT, handler);
+                    builder.addRoute(base + "/{id}/items/{itemId}", HttpMethod.GET, handler);
+                    if (resource % 10 == 0) {
+                        testPaths.add(base + "/item-123");
+                        testPaths.add(base + "/item-123/items/456");
+                    }
+                }
+            }
+            routeTree = builder.freeze();
+        }
+    }
+
     @State(Scope.Benchmark)
     public static class DeepNesting {
         RouteTree routeTree;
@@ -127,6 +158,13 @@ public class LargeTreeBenchmark {
         }
     }
 
+    @Benchmark
+    public void benchmarkFrozen5000Routes(FrozenSpecs5000 state, Blackhole bh) {
+        for (String path : state.testPaths) {
+            bh.consume(state.routeTree.match(path, HttpMethod.GET));
+        }
+    }
+
     @Benchmark
     public void benchmarkDeepNesting(DeepNesting state, Blackhole bh) {
         bh.consume(state.routeTree.match(state.deepPath, HttpMethod.GET));
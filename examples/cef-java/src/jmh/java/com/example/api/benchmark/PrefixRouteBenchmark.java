@@ -0,0 +1,80 @@
+package com.example.api.benchmark;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import com.example.api.routing.RouteTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmark for prefix route matching with 1000 registered prefixes
+ * (static asset directories, a tenth of them with a nested, longer prefix).
+ *
+ * <p>Compares the radix {@code PrefixTree} behind {@link RouteTree} with the previous
+ * linear scan over a {@link HashMap} of prefixes, which also had to be extended to find
+ * the longest prefix instead of an arbitrary one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class PrefixRouteBenchmark {
+
+    private static final int PREFIXES = 1_000;
+
+    private RouteTree routeTree;
+    private Map<String, Function<ApiRequest, ApiResponse<?>>> linearPrefixes;
+    private List<String> testPaths;
+
+    @Setup
+    public void setup() {
+        Function<ApiRequest, ApiResponse<?>> handler = req -> ApiResponse.ok("test");
+        RouteTree tree = new RouteTree();
+        linearPrefixes = new HashMap<>();
+
+        for (int i = 0; i < PREFIXES; i++) {
+            String prefix = i % 10 == 0 ? "/static/dir" + (i - 1) + "/img/" : "/static/dir" + i + "/";
+            tree.addPrefixRoute(prefix, HttpMethod.GET, handler);
+            linearPrefixes.put(prefix, handler);
+        }
+        routeTree = tree.freeze();
+
+        testPaths = new ArrayList<>();
+        for (int i = 0; i < PREFIXES; i += 7) {
+            testPaths.add("/static/dir" + i + "/css/app.css");
+            testPaths.add("/static/dir" + i + "/img/logo.png");
+        }
+        testPaths.add("/assets/unknown.js");
+        testPaths.add("/static/missing/app.js");
+    }
+
+    @Benchmark
+    public void benchmarkRadixTree(Blackhole bh) {
+        for (String path : testPaths) {
+            bh.consume(routeTree.match(path, HttpMethod.GET));
+        }
+    }
+
+    @Benchmark
+    public void benchmarkLinearScan(Blackhole bh) {
+        for (String path : testPaths) {
+            String longest = null;
+            for (String prefix : linearPrefixes.keySet()) {
+                if (path.startsWith(prefix) && (longest == null || prefix.length() > longest.length())) {
+                    longest = prefix;
+                }
+            }
+            bh.consume(longest != null ? linearPrefixes.get(longest) : null);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.api.benchmark;
+
+import com.example.api.dto.Task;
+import com.example.api.dto.TaskListResponse;
+import com.example.api.dto.TaskPriority;
+import com.example.api.dto.TaskStatus;
+import com.example.api.protocol.JsonCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reading and parsing a JSON request body the way {@code ApiRequest} does.
+ *
+ * <p>CEF's post data classes are native, so the body is held in a byte array standing in for
+ * one bytes element: {@code getBytesCount()} is its length and {@code getBytes(size, buffer)}
+ * copies it out. {@code chunkedString} is the previous approach: the element is read through a
+ * 64 KB buffer into a {@code ByteArrayOutputStream}, decoded into a {@code String} and parsed
+ * from it with {@code ObjectMapper.readValue}. (The previous code stopped after the first chunk,
+ * truncating larger bodies; here it copies the whole body so both sides parse the same input.)
+ * {@code exactBytes} reads the element into an array of exactly {@code getBytesCount()} bytes and
+ * parses the UTF-8 bytes with the {@link JsonCodec} reader, skipping the growing copies, the
+ * {@code String} and the decoding pass. {@code exactBytesThenString} isolates the cost of the
+ * {@code String} round trip. Run with {@code -prof gc} to compare allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class RequestBodyBenchmark {
+
+    private static final int CHUNK_SIZE = 65_536;
+
+    @Param({"1024", "1048576", "20971520"})
+    private int bodySize;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private byte[] body;
+
+    @Setup
+    public void setup() throws IOException {
+        // Add tasks until their serialized size reaches the target
+        List<Task> tasks = new ArrayList<>();
+        long size = 0;
+        for (int i = 0; size < bodySize; i++) {
+            Task task = new Task(String.valueOf(i), "Task " + i, "Description of task " + i,
+                TaskStatus.values()[i % TaskStatus.values().length],
+                TaskPriority.values()[i % TaskPriority.values().length],
+                "user" + (i % 10), List.of("tag" + (i % 5), "team"),
+                "2024-01-01T10:00:00Z", "2024-01-02T10:00:00Z", "2024-01-10T00:00:00Z");
+            tasks.add(task);
+            size += mapper.writeValueAsBytes(task).length + 1;
+        }
+        body = mapper.writeValueAsBytes(new TaskListResponse(tasks, tasks.size(), 0, tasks.size()));
+    }
+
+    /** {@code CefPostDataElement.getBytesCount()} of the simulated element. */
+    private int getBytesCount() {
+        return body.length;
+    }
+
+    /** {@code CefPostDataElement.getBytes(size, buffer)} of the simulated element, from an offset. */
+    private int getBytes(int offset, int size, byte[] buffer) {
+        int length = Math.min(size, body.length - offset);
+        System.arraycopy(body, offset, buffer, 0, length);
+        return length;
+    }
+
+    @Benchmark
+    public void chunkedString(Blackhole bh) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[CHUNK_SIZE];
+        int offset = 0;
+        int read;
+        while (offset < getBytesCount() && (read = getBytes(offset, buffer.length, buffer)) > 0) {
+            out.write(buffer, 0, read);
+            offset += read;
+        }
+        String text = out.toString(StandardCharsets.UTF_8);
+        bh.consume(mapper.readValue(text, TaskListResponse.class));
+    }
+
+    @Benchmark
+    public void exactBytesThenString(Blackhole bh) throws IOException {
+        byte[] bytes = new byte[getBytesCount()];
+        getBytes(0, bytes.length, bytes);
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        bh.consume(JsonCodec.defaultCodec().reader(TaskListResponse.class).readValue(text));
+    }
+
+    @Benchmark
+    public void exactBytes(Blackhole bh) throws IOException {
+        byte[] bytes = new byte[getBytesCount()];
+        getBytes(0, bytes.length, bytes);
+        bh.consume(JsonCodec.defaultCodec().reader(TaskListResponse.class).readValue(bytes));
+    }
+}
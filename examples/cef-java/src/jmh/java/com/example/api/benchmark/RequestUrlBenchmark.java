@@ -0,0 +1,71 @@
+package com.example.api.benchmark;
+
+import com.example.api.protocol.RequestUrl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the per-request URL work of {@code ApiCefRequestHandler}: checking the URL
+ * against the whitelist and extracting the path to route.
+ *
+ * <p>{@code uriAndPrefixStream} is the previous approach: a stream over the prefixes and a
+ * {@link URI} for the path, parsed again by {@code ApiRequest} for the query. {@code requestUrl}
+ * splits the URL once with {@link RequestUrl}, checks the authority by its offsets as the compiled
+ * URL filter does, and reads path and query from the same instance.
+ * Run with {@code -prof gc} to compare allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class RequestUrlBenchmark {
+
+    private final List<String> prefixes = List.of(
+        "http://localhost:5173", "http://localhost:8080", "https://app.example.com");
+
+    private String[] urls;
+
+    @Setup
+    public void setup() {
+        urls = new String[100];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = i % 4 == 0
+                ? "http://localhost:5173/assets/img/icon-" + i + ".png"
+                : "http://localhost:5173/api/resource" + i + "/item-" + i + "?page=" + i + "&size=20";
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void uriAndPrefixStream(Blackhole bh) {
+        for (String url : urls) {
+            if (prefixes.stream().anyMatch(url::startsWith)) {
+                try {
+                    bh.consume(new URI(url).getPath());
+                    bh.consume(new URI(url).getQuery());
+                } catch (URISyntaxException e) {
+                    bh.consume(e);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void requestUrl(Blackhole bh) {
+        for (String url : urls) {
+            RequestUrl split = RequestUrl.parse(url);
+            if (split.hasAuthority() && split.port() == 5173) {
+                bh.consume(split.path());
+                bh.consume(split.rawQuery());
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.api.benchmark;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import com.example.api.routing.CompiledRouter;
+import com.example.api.routing.RouteDecision;
+import com.example.api.routing.RouteTree;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmark for the allocation cost of a single route match.
+ *
+ * <p>Each invocation performs exactly one match, so with the GC profiler enabled
+ * (see the {@code jmh} block in build.gradle.kts) {@code gc.alloc.rate.norm} reads as
+ * bytes allocated per match. Paths that match nothing should report 0 B/op for
+ * {@link RouteTree#hasPath}, the {@link CompiledRouter} and a repeated {@link RouteTree#route}
+ * (answered by the negative cache); a hit only allocates its result, the captured path
+ * variables and, for {@code route}, the decision.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class RouteMatchAllocationBenchmark {
+
+    private static final int DISTINCT_PATHS = 1024;
+
+    private RouteTree routeTree;
+    private CompiledRouter compiledRouter;
+    private String[] hitPaths;
+    private String[] compiledHitPaths;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Function<ApiRequest, ApiResponse<?>> handler = req -> ApiResponse.ok("test");
+        RouteTree tree = new RouteTree();
+        for (int i = 0; i < 50; i++) {
+            tree.addRoute("/api/resource" + i + "/{id}", HttpMethod.GET, handler);
+            tree.addRoute("/api/resource" + i + "/{id}/items/{itemId}", HttpMethod.GET, handler);
+        }
+        routeTree = tree.freeze();
+
+        compiledRouter = new CompiledRouter();
+        for (int route = 0; route < CompiledRouter.ROUTE_COUNT; route++) {
+            compiledRouter.register(route, handler);
+        }
+
+        // Distinct paths so the RouteTree match cache misses, as it does for real ids
+        hitPaths = new String[DISTINCT_PATHS];
+        compiledHitPaths = new String[DISTINCT_PATHS];
+        for (int i = 0; i < DISTINCT_PATHS; i++) {
+            hitPaths[i] = "/api/resource" + (i % 50) + "/id-" + i + "/items/item-" + i;
+            compiledHitPaths[i] = "/api/tasks/task-" + i + "/status";
+        }
+    }
+
+    private int nextIndex() {
+        return next++ & (DISTINCT_PATHS - 1);
+    }
+
+    @Benchmark
+    public RouteTree.MatchResult patternHit() {
+        return routeTree.match(hitPaths[nextIndex()], HttpMethod.GET);
+    }
+
+    @Benchmark
+    public RouteTree.MatchResult patternMiss() {
+        return routeTree.match("/api/resource25/id-1/unknown/item-1", HttpMethod.GET);
+    }
+
+    @Benchmark
+    public RouteDecision routeHit() {
+        return routeTree.route(hitPaths[nextIndex()], HttpMethod.GET);
+    }
+
+    @Benchmark
+    public RouteDecision routeMiss() {
+        return routeTree.route("/api/resource25/id-1/unknown/item-1", HttpMethod.GET);
+    }
+
+    @Benchmark
+    public boolean hasPathHit() {
+        return routeTree.hasPath(hitPaths[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean hasPathMiss() {
+        return routeTree.hasPath("/api/resource25/id-1/unknown/item-1");
+    }
+
+    @Benchmark
+    public RouteTree.MatchResult compiledHit() {
+        return compiledRouter.match(compiledHitPaths[nextIndex()], HttpMethod.PATCH);
+    }
+
+    @Benchmark
+    public RouteTree.MatchResult compiledMiss() {
+        return compiledRouter.match("/api/tasks/task-1/unknown", HttpMethod.PATCH);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.api.benchmark;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import com.example.api.routing.RouteTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmark for the memory footprint of large route sets, next to their matching and compile throughput.
+ *
+ * <p>Setup measures the heap retained by frozen trees of {@code routes} routes (used heap after a
+ * full GC, with and without enough copies of the tree to hold {@value #MEASURED_ROUTES} routes, averaged) and reports it per 1000
+ * routes as the
+ * {@code retainedBytesPer1kRoutes} secondary result of every benchmark. The routes have the shape
+ * of {@link LargeTreeBenchmark}: one literal segment per resource under "/api", so the "/api" node
+ * has a child per resource while every other node has at most one.
+ *
+ * <p>{@code recompile} replaces one route of a live tree and freezes it, which builds the
+ * registration trie and compiles a new route table, as every runtime route change does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class RouteTreeFootprintBenchmark {
+
+    /**
+     * Total routes held while measuring, so small trees are measured above the heap accounting noise.
+     */
+    private static final int MEASURED_ROUTES = 40_000;
+
+    @Param({"1000", "10000"})
+    int routes;
+
+    RouteTree frozenTree;
+    RouteTree liveTree;
+    String[] testPaths;
+    long retainedBytes;
+
+    private final Function<ApiRequest, ApiResponse<?>> handler = req -> ApiResponse.ok("test");
+
+    @Setup
+    public void setup() {
+        // Load and initialize every class involved before the baseline is taken
+        build().freeze().match("/api/resource0/1", HttpMethod.GET);
+
+        RouteTree[] copies = new RouteTree[Math.max(1, MEASURED_ROUTES / routes)];
+        long before = usedHeapAfterGc();
+        for (int i = 0; i < copies.length; i++) {
+            copies[i] = build().freeze();
+        }
+        retainedBytes = (usedHeapAfterGc() - before) / copies.length;
+        frozenTree = copies[0];
+
+        liveTree = build();
+        testPaths = new String[100];
+        int resources = routes / 2;
+        for (int i = 0; i < testPaths.length; i++) {
+            int resource = i * resources / testPaths.length;
+            testPaths[i] = i % 2 == 0
+                ? "/api/resource" + resource + "/item-123"
+                : "/api/resource" + resource + "/item-123/items/456";
+        }
+    }
+
+    private RouteTree build() {
+        RouteTree tree = new RouteTree();
+        // Measure the route table itself, not the match cache
+        tree.setCache(RouteTree.CachePolicy.NONE, 1);
+        for (int resource = 0; resource < routes / 2; resource++) {
+            tree.addRoute("/api/resource" + resource + "/{id}", HttpMethod.GET, handler);
+            tree.addRoute("/api/resource" + resource + "/{id}/items/{itemId}", HttpMethod.GET, handler);
+        }
+        return tree;
+    }
+
+    /**
+     * Used heap after collecting until it stops shrinking.
+     */
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < 10; attempt++) {
+            System.gc();
+            long current = memory.getHeapMemoryUsage().getUsed();
+            if (current >= used) {
+                break;
+            }
+            used = current;
+        }
+        return used;
+    }
+
+    /**
+     * Retained heap of the frozen tree, reported alongside each benchmark's throughput.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytesPer1kRoutes;
+
+        @Setup(Level.Iteration)
+        public void record(RouteTreeFootprintBenchmark benchmark) {
+            retainedBytesPer1kRoutes = benchmark.retainedBytes * 1000 / benchmark.routes;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void match(Footprint footprint, Blackhole bh) {
+        for (String path : testPaths) {
+            bh.consume(frozenTree.match(path, HttpMethod.GET));
+        }
+    }
+
+    @Benchmark
+    public RouteTree recompile(Footprint footprint) {
+        liveTree.addRoute("/api/resource0/{id}", HttpMethod.GET, handler);
+        return liveTree.freeze();
+    }
+}
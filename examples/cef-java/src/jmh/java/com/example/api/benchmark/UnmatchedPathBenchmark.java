@@ -0,0 +1,91 @@
+package com.example.api.benchmark;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import com.example.api.routing.RouteTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmark for requests no route handles: the images, fonts and scripts a page loads next to
+ * its API calls, which CEF offers to the request handler before loading them itself.
+ *
+ * <p>Compares {@link RouteTree#route} (first-segment filter, then the negative cache) with the
+ * previous sequence of {@code match}, {@code hasPath} and {@code match} calls, on paths under
+ * unknown first segments and on unmatched paths under the API's own first segment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class UnmatchedPathBenchmark {
+
+    private RouteTree routeTree;
+    private List<String> assetPaths;
+    private List<String> apiMissPaths;
+
+    @Setup
+    public void setup() {
+        Function<ApiRequest, ApiResponse<?>> handler = req -> ApiResponse.ok("test");
+        RouteTree tree = new RouteTree();
+        for (int i = 0; i < 50; i++) {
+            tree.addRoute("/api/resource" + i + "/{id}", HttpMethod.GET, handler);
+            tree.addRoute("/api/resource" + i + "/{id}/items/{itemId}", HttpMethod.GET, handler);
+        }
+        tree.addPrefixRoute("/webview/", HttpMethod.GET, handler);
+        routeTree = tree.freeze();
+
+        assetPaths = new ArrayList<>();
+        apiMissPaths = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            assetPaths.add("/assets/img/icon-" + i + ".png");
+            apiMissPaths.add("/api/unknown" + i + "/details");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void unknownFirstSegmentRoute(Blackhole bh) {
+        for (String path : assetPaths) {
+            bh.consume(routeTree.route(path, HttpMethod.GET));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void unknownFirstSegmentMatchSequence(Blackhole bh) {
+        for (String path : assetPaths) {
+            bh.consume(matchSequence(path));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void knownFirstSegmentRoute(Blackhole bh) {
+        for (String path : apiMissPaths) {
+            bh.consume(routeTree.route(path, HttpMethod.GET));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void knownFirstSegmentMatchSequence(Blackhole bh) {
+        for (String path : apiMissPaths) {
+            bh.consume(matchSequence(path));
+        }
+    }
+
+    private boolean matchSequence(String path) {
+        return routeTree.match(path, HttpMethod.GET) != null
+            || routeTree.hasPath(path)
+            || routeTree.matchStrict(path, HttpMethod.GET) != null;
+    }
+}
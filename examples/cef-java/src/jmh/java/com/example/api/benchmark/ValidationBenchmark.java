@@ -0,0 +1,107 @@
+package com.example.api.benchmark;
+
+import com.example.api.exception.ValidationException;
+import com.example.api.exception.ValidationException.ValidationError;
+import com.example.api.interceptor.RequestInterceptor;
+import com.example.api.interceptor.ValidationInterceptor;
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.HttpMethod;
+import com.example.api.protocol.JsonCodec;
+import com.example.api.protocol.RequestBody;
+import com.example.api.protocol.RequestUrl;
+import com.example.api.validation.OperationValidators.ListTasks;
+import com.example.api.validation.ParameterValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for validating the parameters of a valid {@code GET /api/tasks} request: an enum
+ * {@code status} and the bounded integers {@code page} and {@code size}, read from the query.
+ *
+ * <p>{@code listBased} is the previous {@code ValidationInterceptor}: an error list per request,
+ * a new list from {@link ParameterValidator} per parameter, enum values checked with
+ * {@code List.contains} and bounds passed as boxed {@code Integer}s. {@code generated} runs the
+ * route's validator bound by {@link ValidationInterceptor#forRoute}, the generated
+ * {@code OperationValidators.ListTasks}; {@code generatedFailFast} runs it in fail-fast mode.
+ * The generated validator also binds the typed {@code ListTasks.Parameters} it keeps on the
+ * request.</p>
+ *
+ * <p>The {@code ...AndHandler} variants add what the route's handler does before calling the
+ * service: {@code listBasedAndHandler} parses {@code page} and {@code size} again, as the
+ * handlers did before parameters were bound once, and {@code generatedAndHandler} takes the
+ * parameters bound by validation. The request and its query map are built once, so only the
+ * validation and parameter decoding are measured. Run with {@code -prof gc} to compare
+ * allocation per request.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final List<String> STATUS_VALUES = List.of(
+        "pending", "in_progress", "blocked", "review", "completed", "cancelled");
+
+    private ApiRequest request;
+    private RequestInterceptor generated;
+    private RequestInterceptor generatedFailFast;
+
+    @Setup
+    public void setup() throws Exception {
+        request = new ApiRequest(null, null, null, HttpMethod.GET,
+            RequestUrl.parse("http://localhost:5173/api/tasks?status=in_progress&page=12&size=50"),
+            RequestBody.Spooling.DEFAULT, JsonCodec.defaultCodec());
+        // Parse the query once, as the first validator of a request would
+        request.getQueryParam("status");
+        generated = new ValidationInterceptor().forRoute(HttpMethod.GET, "/api/tasks");
+        generatedFailFast = new ValidationInterceptor(true).forRoute(HttpMethod.GET, "/api/tasks");
+    }
+
+    @Benchmark
+    public void listBased(Blackhole bh) {
+        List<ValidationError> errors = new ArrayList<>();
+        errors.addAll(ParameterValidator.validateString(
+            "status", request.getQueryParam("status"), false, null, null, null, STATUS_VALUES));
+        errors.addAll(ParameterValidator.validateAndParseInteger(
+            "page", request.getQueryParam("page"), false, 1, 1000));
+        errors.addAll(ParameterValidator.validateAndParseInteger(
+            "size", request.getQueryParam("size"), false, 1, 100));
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+        bh.consume(errors);
+    }
+
+    @Benchmark
+    public void listBasedAndHandler(Blackhole bh) {
+        listBased(bh);
+        bh.consume(request.getQueryParam("status"));
+        bh.consume(request.getQueryParam("page") != null ? Integer.parseInt(request.getQueryParam("page")) : null);
+        bh.consume(request.getQueryParam("size") != null ? Integer.parseInt(request.getQueryParam("size")) : null);
+    }
+
+    @Benchmark
+    public void generatedAndHandler(Blackhole bh) throws Exception {
+        generated.beforeHandle(request);
+        ListTasks.Parameters parameters = ListTasks.parameters(request);
+        bh.consume(parameters.status());
+        bh.consume(parameters.page());
+        bh.consume(parameters.size());
+    }
+
+    @Benchmark
+    public void generated() throws Exception {
+        generated.beforeHandle(request);
+    }
+
+    @Benchmark
+    public void generatedFailFast() throws Exception {
+        generatedFailFast.beforeHandle(request);
+    }
+}
@@ -0,0 +1,366 @@
+package com.example.api.cef;
+
+import com.example.api.exception.ApiException;
+import com.example.api.interceptor.RequestInterceptor;
+import com.example.api.mock.MockCefFactory;
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import com.intellij.openapi.project.Project;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.callback.CefCallback;
+import org.cef.handler.CefResourceHandler;
+import org.cef.network.CefRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.api.mock.CefResponseReader.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ApiCefRequestHandler Async Tests")
+class ApiCefRequestHandlerAsyncTest {
+
+    private Project mockProject;
+    private CefBrowser mockBrowser;
+    private CefFrame mockFrame;
+
+    /**
+     * Executor that queues tasks until the test runs them.
+     */
+    private Queue<Runnable> tasks;
+
+    @BeforeEach
+    void setUp() {
+        mockProject = MockCefFactory.createMockProject();
+        mockBrowser = MockCefFactory.createMockBrowser();
+        mockFrame = MockCefFactory.createMockFrame();
+        tasks = new ArrayDeque<>();
+    }
+
+    private CefResourceHandler resourceHandler(ApiCefRequestHandler handler, CefRequest cefRequest) {
+        return handler.getResourceRequestHandler(mockBrowser, mockFrame, cefRequest, false, false, null, null)
+                .getResourceHandler(mockBrowser, mockFrame, cefRequest);
+    }
+
+    @Nested
+    @DisplayName("Deferred Execution Tests")
+    class DeferredExecutionTests {
+
+        @Test
+        @DisplayName("Should return from processRequest before the handler runs")
+        void testProcessRequestReturnsBeforeHandlerRuns() {
+            // Given: Async handler on a queueing executor
+            List<String> calls = new ArrayList<>();
+            ApiCefRequestHandler handler = ApiCefRequestHandler.builder(mockProject)
+                    .withAsyncHandlers(tasks::add)
+                    .withRoute("/api/users/{id}", HttpMethod.GET, req -> {
+                        calls.add(req.getPathVariable("id"));
+                        return ApiResponse.ok("user " + req.getPathVariable("id"));
+                    })
+                    .build();
+            CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost/api/users/7", "GET");
+            CefCallback callback = mock(CefCallback.class);
+
+            // When: CEF starts the request
+            CefResourceHandler resourceHandler = resourceHandler(handler, cefRequest);
+            boolean handled = resourceHandler.processRequest(cefRequest, callback);
+
+            // Then: Nothing ran yet and CEF was not told to continue
+            assertThat(handled).isTrue();
+            assertThat(calls).isEmpty();
+            verify(callback, never()).Continue();
+
+            // When: The executor runs the task
+            tasks.remove().run();
+
+            // Then: The response is ready and CEF continues
+            assertThat(calls).containsExactly("7");
+            verify(callback).Continue();
+            assertThat(status(resourceHandler)).isEqualTo(200);
+            assertThat(readString(resourceHandler, 1024)).isEqualTo("user 7");
+        }
+
+        @Test
+        @DisplayName("Should read headers, query and body before handing off")
+        void testRequestIsReadBeforeHandOff() {
+            // Given: Async handler reading header, query and body
+            ApiCefRequestHandler handler = ApiCefRequestHandler.builder(mockProject)
+                    .withAsyncHandlers(tasks::add)
+                    .withRoute("/api/items", HttpMethod.POST, req -> ApiResponse.ok(
+                            req.getHeader("x-request-id") + " " + req.getQueryParam("q") + " " + req.getBodyString()))
+                    .build();
+            CefRequest cefRequest = MockCefFactory.builder()
+                    .url("http://localhost/api/items?q=search")
+                    .method("POST")
+                    .header("X-Request-Id", "42")
+                    .body("{\"name\":\"item\"}")
+                    .build();
+
+            // When: The request is started, then CEF releases it before the handler runs
+            CefResourceHandler resourceHandler = resourceHandler(handler, cefRequest);
+            resourceHandler.processRequest(cefRequest, mock(CefCallback.class));
+            reset(cefRequest);
+            tasks.remove().run();
+
+            // Then: The handler still sees everything
+            assertThat(readString(resourceHandler, 1024)).isEqualTo("42 search {\"name\":\"item\"}");
+        }
+
+        @Test
+        @DisplayName("Should not hand the CEF request to the executor")
+        void testCefRequestStaysOnIoThread() {
+            // Given: Async handler recording the CEF request its handler and exception handler see
+            List<CefRequest> seen = new ArrayList<>();
+            ApiCefRequestHandler handler = ApiCefRequestHandler.builder(mockProject)
+                    .withAsyncHandlers(tasks::add)
+                    .withExceptionHandler((exception, request) -> {
+                        seen.add(request);
+                        return ApiResponse.status(409, exception.getMessage());
+                    })
+                    .withRoute("/api/items/{id}", HttpMethod.GET, req -> {
+                        seen.add(req.getCefRequest());
+                        throw ApiException.notFound("Item not found");
+                    })
+                    .build();
+            CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost/api/items/9", "GET");
+
+            // When
+            CefResourceHandler resourceHandler = resourceHandler(handler, cefRequest);
+            resourceHandler.processRequest(cefRequest, mock(CefCallback.class));
+            tasks.remove().run();
+
+            // Then: Both get null from the detached request, never the native one
+            assertThat(seen).hasSize(2).containsOnlyNulls();
+            assertThat(status(resourceHandler)).isEqualTo(409);
+        }
+
+        @Test
+        @DisplayName("Should answer 405 without the executor")
+        void testMethodNotAllowedIsAnsweredDirectly() {
+            ApiCefRequestHandler handler = ApiCefRequestHandler.builder(mockProject)
+                    .withAsyncHandlers(tasks::add)
+                    .withRoute("/api/users/{id}", HttpMethod.GET, req -> ApiResponse.ok("user"))
+                    .build();
+            CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost/api/users/7", "POST");
+
+            CefResourceHandler resourceHandler = resourceHandler(handler, cefRequest);
+
+            assertThat(resourceHandler).isInstanceOf(ApiResponseHandler.class);
+            assertThat(status(resourceHandler)).isEqualTo(405);
+            assertThat(tasks).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should run on the calling thread when the executor rejects the task")
+        void testRejectedTaskRunsOnCallingThread() {
+            // Given: An executor that was shut down
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            executor.shutdown();
+            ApiCefRequestHandler handler = ApiCefRequestHandler.builder(mockProject)
+                    .withAsyncHandlers(executor)
+                    .withRoute("/api/status", HttpMethod.GET, req -> ApiResponse.ok("up"))
+                    .build();
+            CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost/api/status", "GET");
+            CefCallback callback = mock(CefCallback.class);
+
+            // When
+            CefResourceHandler resourceHandler = resourceHandler(handler, cefRequest);
+            resourceHandler.processRequest(cefRequest, callback);
+
+            // Then: Answered before processRequest returned
+            verify(callback).Continue();
+            assertThat(readString(resourceHandler, 1024)).isEqualTo("up");
+        }
+
+        @Test
+        @DisplayName("Should not hold up other requests behind a slow handler")
+        void testSlowHandlerDoesNotBlockOthers() throws Exception {
+            // Given: Default executor and a handler that waits until released
+            CountDownLatch release = new CountDownLatch(1);
+            ApiCefRequestHandler handler = ApiCefRequestHandler.builder(mockProject)
+                    .withAsyncHandlers()
+                    .withRoute("/api/slow", HttpMethod.GET, req -> {
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return ApiResponse.ok("slow");
+                    })
+                    .withRoute("/api/fast", HttpMethod.GET, req -> ApiResponse.ok("fast"))
+                    .build();
+            CountDownLatch slowDone = new CountDownLatch(1);
+            CountDownLatch fastDone = new CountDownLatch(1);
+            CefCallback slowCallback = mock(CefCallback.class);
+            doAnswer(invocation -> {
+                slowDone.countDown();
+                return null;
+            }).when(slowCallback).Continue();
+            CefCallback fastCallback = mock(CefCallback.class);
+            doAnswer(invocation -> {
+                fastDone.countDown();
+                return null;
+            }).when(fastCallback).Continue();
+
+            // When: The slow request is started first
+            CefRequest slow = MockCefFactory.createMockRequest("http://localhost/api/slow", "GET");
+            resourceHandler(handler, slow).processRequest(slow, slowCallback);
+            CefRequest fast = MockCefFactory.createMockRequest("http://localhost/api/fast", "GET");
+            resourceHandler(handler, fast).processRequest(fast, fastCallback);
+
+            // Then: The fast request completes while the slow one is still running
+            assertThat(fastDone.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slowDone.getCount()).isEqualTo(1);
+            release.countDown();
+            assertThat(slowDone.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject a null executor")
+        void testNullExecutorIsRejected() {
+            assertThatThrownBy(() -> ApiCefRequestHandler.builder(mockProject).withAsyncHandlers(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Interceptor And Exception Tests")
+    class InterceptorAndExceptionTests {
+
+        @Test
+        @DisplayName("Should call interceptors in the same order as synchronous mode")
+        void testInterceptorOrder() {
+            // Given: A recording interceptor
+            List<String> events = Collections.synchronizedList(new ArrayList<>());
+            ApiCefRequestHandler handler = ApiCefRequestHandler.builder(mockProject)
+                    .withAsyncHandlers(tasks::add)
+                    .withInterceptor(recording(events))
+                    .withRoute("/api/items", HttpMethod.GET, req -> {
+                        events.add("handler");
+                        return ApiResponse.ok("items");
+                    })
+                    .build();
+            CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost/api/items", "GET");
+
+            // When
+            CefResourceHandler resourceHandler = resourceHandler(handler, cefRequest);
+            resourceHandler.processRequest(cefRequest, mock(CefCallback.class));
+            tasks.remove().run();
+
+            // Then
+            assertThat(events).containsExactly("before /api/items", "handler", "after 200");
+        }
+
+        @Test
+        @DisplayName("Should route handler exceptions through onError and the exception handler")
+        void testHandlerExceptionSemantics() {
+            // Given: A handler throwing an ApiException
+            List<String> events = Collections.synchronizedList(new ArrayList<>());
+            ApiCefRequestHandler handler = ApiCefRequestHandler.builder(mockProject)
+                    .withAsyncHandlers(tasks::add)
+                    .withInterceptor(recording(events))
+                    .withRoute("/api/items/{id}", HttpMethod.GET, req -> {
+                        throw ApiException.notFound("Item not found");
+                    })
+                    .build();
+            CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost/api/items/9", "GET");
+            CefCallback callback = mock(CefCallback.class);
+
+            // When
+            CefResourceHandler resourceHandler = resourceHandler(handler, cefRequest);
+            resourceHandler.processRequest(cefRequest, callback);
+            tasks.remove().run();
+
+            // Then: Same status and interceptor calls as synchronous mode, and CEF continues
+            verify(callback).Continue();
+            assertThat(status(resourceHandler)).isEqualTo(404);
+            assertThat(events).containsExactly("before /api/items/9", "error Item not found");
+        }
+
+        @Test
+        @DisplayName("Should route a failure to compile the interceptor chain through onError")
+        void testChainFailureSemantics() {
+            // Given: An interceptor that cannot be bound to the route
+            List<String> events = Collections.synchronizedList(new ArrayList<>());
+            ApiCefRequestHandler handler = ApiCefRequestHandler.builder(mockProject)
+                    .withAsyncHandlers(tasks::add)
+                    .withInterceptor(recording(events))
+                    .withInterceptor(new RequestInterceptor() {
+                        @Override
+                        public RequestInterceptor forRoute(HttpMethod method, String pattern) {
+                            throw new IllegalStateException("No validator for " + pattern);
+                        }
+                    })
+                    .withRoute("/api/items", HttpMethod.GET, req -> ApiResponse.ok("items"))
+                    .build();
+            CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost/api/items", "GET");
+            CefCallback callback = mock(CefCallback.class);
+
+            // When
+            CefResourceHandler resourceHandler = resourceHandler(handler, cefRequest);
+            resourceHandler.processRequest(cefRequest, callback);
+            tasks.remove().run();
+
+            // Then: An error response rather than an exception escaping the task, and CEF continues
+            verify(callback).Continue();
+            assertThat(status(resourceHandler)).isEqualTo(500);
+            assertThat(events).containsExactly("error No validator for /api/items");
+        }
+
+        @Test
+        @DisplayName("Should match the synchronous response for the same request")
+        void testSameResponseAsSynchronousMode() {
+            ApiCefRequestHandler sync = ApiCefRequestHandler.builder(mockProject)
+                    .withRoute("/api/users/{id}", HttpMethod.GET, req -> ApiResponse.ok(Map.of("id", req.getPathVariable("id"))))
+                    .build();
+            ApiCefRequestHandler async = ApiCefRequestHandler.builder(mockProject)
+                    .withAsyncHandlers(tasks::add)
+                    .withRoute("/api/users/{id}", HttpMethod.GET, req -> ApiResponse.ok(Map.of("id", req.getPathVariable("id"))))
+                    .build();
+            CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost/api/users/3", "GET");
+
+            CefResourceHandler syncHandler = resourceHandler(sync, cefRequest);
+            syncHandler.processRequest(cefRequest, mock(CefCallback.class));
+            CefResourceHandler asyncHandler = resourceHandler(async, cefRequest);
+            asyncHandler.processRequest(cefRequest, mock(CefCallback.class));
+            tasks.remove().run();
+
+            assertThat(status(asyncHandler)).isEqualTo(status(syncHandler));
+            assertThat(readString(asyncHandler, 1024)).isEqualTo(readString(syncHandler, 1024));
+        }
+
+        private RequestInterceptor recording(List<String> events) {
+            return new RequestInterceptor() {
+                @Override
+                public void beforeHandle(ApiRequest request) {
+                    events.add("before " + request.getPath());
+                }
+
+                @Override
+                public void afterHandle(ApiResponse<?> response, long durationMs) {
+                    events.add("after " + response.getStatusCode());
+                }
+
+                @Override
+                public void onError(Exception exception, ApiRequest request) {
+                    events.add("error " + exception.getMessage());
+                }
+            };
+        }
+    }
+}
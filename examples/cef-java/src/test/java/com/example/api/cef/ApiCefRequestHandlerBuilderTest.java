@@ -3,10 +3,12 @@ package com.example.api.cef;
 import com.example.api.protocol.ApiRequest;
 import com.example.api.protocol.ApiResponse;
 import com.example.api.protocol.HttpMethod;
+import com.example.api.protocol.JsonCodec;
 import com.example.api.interceptor.RequestInterceptor;
 import com.example.api.interceptor.CorsInterceptor;
 import com.example.api.interceptor.ValidationInterceptor;
 import com.example.api.mock.MockCefFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.intellij.openapi.project.Project;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -884,4 +886,60 @@ class ApiCefRequestHandlerBuilderTest {
             assertThat(handler).isNotNull();
         }
     }
+
+    @Nested
+    @DisplayName("ObjectMapper Tests")
+    class ObjectMapperTests {
+
+        @Test
+        @DisplayName("Should give the handler a codec of the configured ObjectMapper")
+        void testWithObjectMapperSetsHandlerCodec() {
+            // Given: Builder with a custom mapper
+            ObjectMapper mapper = JsonCodec.defaultMapper();
+            ApiCefRequestHandlerBuilder builder = ApiCefRequestHandlerBuilder.builder(mockProject)
+                    .withObjectMapper(mapper);
+
+            // When: Building the handler
+            ApiCefRequestHandler handler = builder.build();
+
+            // Then: Request bodies and responses of that handler use the mapper
+            assertThat(handler.getJsonCodec().mapper()).isSameAs(mapper);
+        }
+
+        @Test
+        @DisplayName("Should keep the ObjectMappers of different handlers apart")
+        void testHandlersWithDifferentObjectMappers() {
+            // Given: Two handlers built with different mappers
+            ObjectMapper first = JsonCodec.defaultMapper();
+            ObjectMapper second = JsonCodec.defaultMapper();
+            ApiCefRequestHandler firstHandler = ApiCefRequestHandlerBuilder.builder(mockProject)
+                    .withObjectMapper(first)
+                    .build();
+            ApiCefRequestHandler secondHandler = ApiCefRequestHandlerBuilder.builder(mockProject)
+                    .withObjectMapper(second)
+                    .build();
+
+            // Then: Each keeps its own
+            assertThat(firstHandler.getJsonCodec().mapper()).isSameAs(first);
+            assertThat(secondHandler.getJsonCodec().mapper()).isSameAs(second);
+        }
+
+        @Test
+        @DisplayName("Should use the default codec when no ObjectMapper is configured")
+        void testBuildWithoutObjectMapperUsesDefaultCodec() {
+            // When: Building without withObjectMapper
+            ApiCefRequestHandler handler = ApiCefRequestHandlerBuilder.builder(mockProject).build();
+
+            // Then: The shared default codec is used
+            assertThat(handler.getJsonCodec()).isSameAs(JsonCodec.defaultCodec());
+        }
+
+        @Test
+        @DisplayName("Should reject a null ObjectMapper")
+        void testWithObjectMapperRejectsNull() {
+            // When/Then: Null is rejected
+            assertThatThrownBy(() -> ApiCefRequestHandlerBuilder.builder(mockProject).withObjectMapper(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
 }
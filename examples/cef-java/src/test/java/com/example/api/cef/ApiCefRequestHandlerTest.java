@@ -682,6 +682,54 @@ class ApiCefRequestHandlerTest {
             // Then: Should match the prefix and route
             assertThat(resourceHandler).isNotNull();
         }
+
+        @Test
+        @DisplayName("Should match the host exactly, not as a string prefix")
+        void testHostMustMatchExactly() {
+            // Given: Handler with a prefix without port
+            ApiCefRequestHandler handler = ApiCefRequestHandler.builder(mockProject)
+                    .withUrlFilter("http://localhost")
+                    .withRoute("/api/items", HttpMethod.GET, req -> ApiResponse.ok("items"))
+                    .build();
+
+            // When: Requests on any port of the host, and on a host that merely starts with it
+            CefResourceRequestHandler anyPort = handler.getResourceRequestHandler(
+                    mockBrowser, mockFrame,
+                    MockCefFactory.createMockRequest("http://localhost:5173/api/items", "GET"),
+                    false, false, null, null
+            );
+            CefResourceRequestHandler lookalike = handler.getResourceRequestHandler(
+                    mockBrowser, mockFrame,
+                    MockCefFactory.createMockRequest("http://localhost.evil.com/api/items", "GET"),
+                    false, false, null, null
+            );
+
+            // Then: A prefix without port allows every port, but only of that host
+            assertThat(anyPort).isNotNull();
+            assertThat(lookalike).isNull();
+        }
+
+        @Test
+        @DisplayName("Should match port and path of the prefix")
+        void testPortAndPathPrefix() {
+            // Given: Handler with a prefix including port and path
+            ApiCefRequestHandler handler = ApiCefRequestHandler.builder(mockProject)
+                    .withUrlFilter("http://localhost:5173/api")
+                    .withRoute("/api/items", HttpMethod.GET, req -> ApiResponse.ok("items"))
+                    .withRoute("/other/items", HttpMethod.GET, req -> ApiResponse.ok("items"))
+                    .build();
+
+            // When / Then: Only the configured port and path are accepted
+            assertThat(handler.getResourceRequestHandler(mockBrowser, mockFrame,
+                    MockCefFactory.createMockRequest("http://localhost:5173/api/items", "GET"),
+                    false, false, null, null)).isNotNull();
+            assertThat(handler.getResourceRequestHandler(mockBrowser, mockFrame,
+                    MockCefFactory.createMockRequest("http://localhost:8080/api/items", "GET"),
+                    false, false, null, null)).isNull();
+            assertThat(handler.getResourceRequestHandler(mockBrowser, mockFrame,
+                    MockCefFactory.createMockRequest("http://localhost:5173/other/items", "GET"),
+                    false, false, null, null)).isNull();
+        }
     }
 
     @Nested
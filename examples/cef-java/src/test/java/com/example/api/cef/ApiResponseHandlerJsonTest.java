@@ -0,0 +1,99 @@
+package com.example.api.cef;
+
+import com.example.api.protocol.ApiResponse;
+import com.example.api.util.ResponseBuffer;
+import org.cef.callback.CefCallback;
+import org.cef.misc.IntRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.example.api.mock.CefResponseReader.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ApiResponseHandler JSON Tests")
+class ApiResponseHandlerJsonTest {
+
+    private static Map<String, Object> task() {
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("id", "1");
+        task.put("title", "Zürich ✓");
+        return task;
+    }
+
+    @Nested
+    @DisplayName("Serialization Tests")
+    class SerializationTests {
+
+        @Test
+        @DisplayName("Should serialize the body as UTF-8 JSON with its exact length")
+        void testJsonBody() {
+            // Given: Response with a non-ASCII object body
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.ok(task()));
+
+            // When: CEF reads headers and body in small chunks
+            int length = responseLength(handler);
+            String body = readString(handler, 7);
+
+            // Then: The JSON arrives intact and the length counts bytes, not characters
+            assertThat(body).isEqualTo("{\"id\":\"1\",\"title\":\"Zürich ✓\"}");
+            assertThat(length).isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+        }
+
+        @Test
+        @DisplayName("Should return 500 when the body cannot be serialized")
+        void testSerializationFailure() {
+            // Given: Body Jackson cannot serialize
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.ok(new Object()));
+
+            // When/Then: An error response is sent instead
+            assertThat(status(handler)).isEqualTo(500);
+            assertThat(readString(handler, 64)).contains("Failed to serialize response");
+        }
+    }
+
+    @Nested
+    @DisplayName("Buffer Pool Tests")
+    class BufferPoolTests {
+
+        @Test
+        @DisplayName("Should return the buffer to the pool once the body is read")
+        void testReleaseAfterRead() {
+            // Given: JSON response read to the end
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.ok(task()));
+            String body = readString(handler, 4096);
+
+            // When: The thread serializes its next response
+            ResponseBuffer next = ResponseBuffer.acquire();
+
+            // Then: It gets the released buffer back, emptied
+            byte[] json = body.getBytes(StandardCharsets.UTF_8);
+            assertThat(next.size()).isZero();
+            assertThat(Arrays.copyOf(next.array(), json.length)).isEqualTo(json);
+            next.release();
+        }
+
+        @Test
+        @DisplayName("Should release the buffer and end the body when cancelled")
+        void testReleaseOnCancel() {
+            // Given: JSON response, partially read
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.ok(task()));
+            handler.readResponse(new byte[4], 4, new IntRef(), mock(CefCallback.class));
+
+            // When: CEF cancels twice
+            handler.cancel();
+            handler.cancel();
+
+            // Then: No bytes of the recycled buffer are read afterwards
+            IntRef bytesRead = new IntRef();
+            assertThat(handler.readResponse(new byte[64], 64, bytesRead, mock(CefCallback.class))).isFalse();
+            assertThat(bytesRead.get()).isZero();
+        }
+    }
+}
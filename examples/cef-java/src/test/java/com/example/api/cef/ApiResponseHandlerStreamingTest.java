@@ -0,0 +1,315 @@
+package com.example.api.cef;
+
+import com.example.api.protocol.ApiResponse;
+import org.cef.callback.CefCallback;
+import org.cef.misc.IntRef;
+import org.cef.misc.StringRef;
+import org.cef.network.CefResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.example.api.mock.CefResponseReader.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ApiResponseHandler Streaming Tests")
+class ApiResponseHandlerStreamingTest {
+
+    private static byte[] data(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) (i * 31);
+        }
+        return data;
+    }
+
+    @Nested
+    @DisplayName("Stream Body Tests")
+    class StreamBodyTests {
+
+        @Test
+        @DisplayName("Should stream an InputStream with unknown length")
+        void testInputStreamBody() {
+            // Given: Response streaming 100 KB from an input stream
+            byte[] data = data(100_000);
+            ApiResponseHandler handler = ApiResponseHandler.from(
+                    ApiResponse.stream(new ByteArrayInputStream(data), "application/octet-stream"));
+
+            // When: CEF asks for the headers and reads in 4 KB chunks
+            int length = responseLength(handler);
+            byte[] body = readAll(handler, 4096);
+
+            // Then: The length is unknown and the body arrives intact
+            assertThat(length).isEqualTo(-1);
+            assertThat(body).isEqualTo(data);
+        }
+
+        @Test
+        @DisplayName("Should stream a ReadableByteChannel")
+        void testChannelBody() {
+            // Given: Response streaming from a channel
+            byte[] data = data(10_000);
+            ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(data));
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.stream(channel, "text/csv"));
+
+            // When: Reading the body
+            byte[] body = readAll(handler, 1000);
+
+            // Then: The body arrives intact and the channel is closed
+            assertThat(responseLength(handler)).isEqualTo(-1);
+            assertThat(body).isEqualTo(data);
+            assertThat(channel.isOpen()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should read an InputStream off the thread CEF reads the body on")
+        void testInputStreamReadOffIoThread() {
+            // Given: Input stream recording the thread that reads it
+            byte[] data = data(1000);
+            AtomicReference<Thread> reader = new AtomicReference<>();
+            InputStream in = new ByteArrayInputStream(data) {
+                @Override
+                public synchronized int read(byte[] b, int off, int len) {
+                    reader.set(Thread.currentThread());
+                    return super.read(b, off, len);
+                }
+            };
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.stream(in, "application/octet-stream"));
+
+            // When: Reading the body
+            byte[] body = readAll(handler, 100);
+
+            // Then: The body arrives intact, read on another thread
+            assertThat(body).isEqualTo(data);
+            assertThat(reader.get()).isNotNull().isNotSameAs(Thread.currentThread());
+        }
+
+        @Test
+        @DisplayName("Should continue CEF once a non-blocking channel becomes readable")
+        void testNonBlockingChannelWaitsForData() throws IOException {
+            // Given: Response streaming from an empty non-blocking pipe
+            Pipe pipe = Pipe.open();
+            pipe.source().configureBlocking(false);
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.stream(pipe.source(), "text/plain"));
+            CefCallback callback = mock(CefCallback.class);
+            byte[] buffer = new byte[16];
+            IntRef bytesRead = new IntRef();
+
+            // When: CEF reads before anything was written
+            assertThat(handler.readResponse(buffer, buffer.length, bytesRead, callback)).isTrue();
+            assertThat(bytesRead.get()).isZero();
+
+            // Then: CEF is continued only once data arrives, and reads it
+            verify(callback, after(200).never()).Continue();
+            pipe.sink().write(ByteBuffer.wrap("data".getBytes(StandardCharsets.UTF_8)));
+            verify(callback, timeout(5000)).Continue();
+            assertThat(handler.readResponse(buffer, buffer.length, bytesRead, callback)).isTrue();
+            assertThat(new String(buffer, 0, bytesRead.get(), StandardCharsets.UTF_8)).isEqualTo("data");
+            handler.cancel();
+        }
+
+        @Test
+        @DisplayName("Should stream an InputStream passed to ok()")
+        void testInputStreamThroughOk() {
+            // Given: An input stream returned with ok() instead of stream()
+            ApiResponseHandler handler = ApiResponseHandler.from(
+                    ApiResponse.ok(new ByteArrayInputStream("plain".getBytes(StandardCharsets.UTF_8)), "text/plain"));
+
+            // When/Then: It is streamed rather than serialized to JSON
+            assertThat(new String(readAll(handler, 16), StandardCharsets.UTF_8)).isEqualTo("plain");
+        }
+
+        @Test
+        @DisplayName("Should keep a known length for buffered bodies")
+        void testBufferedBodyLength() {
+            // Given: Response with a String body
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.ok("hello", "text/plain"));
+
+            // When/Then: The exact length is reported
+            assertThat(responseLength(handler)).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("Chunk Producer Tests")
+    class ChunkProducerTests {
+
+        @Test
+        @DisplayName("Should continue CEF when a producer that had no data becomes ready")
+        void testProducerNotReady() {
+            // Given: Producer fed from a queue, with nothing queued yet
+            Queue<byte[]> chunks = new ArrayDeque<>();
+            AtomicReference<Runnable> listener = new AtomicReference<>();
+            AtomicBoolean done = new AtomicBoolean();
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.stream((target, ready) -> {
+                byte[] chunk = chunks.poll();
+                if (chunk == null) {
+                    if (done.get()) {
+                        return -1;
+                    }
+                    listener.set(ready);
+                    return 0;
+                }
+                target.put(chunk);
+                return chunk.length;
+            }, "text/event-stream"));
+            byte[] buffer = new byte[64];
+            IntRef bytesRead = new IntRef();
+            CefCallback callback = mock(CefCallback.class);
+
+            // When: CEF reads before any data exists
+            boolean more = handler.readResponse(buffer, buffer.length, bytesRead, callback);
+
+            // Then: No bytes, the response stays open, and CEF waits for the callback
+            assertThat(more).isTrue();
+            assertThat(bytesRead.get()).isZero();
+            verify(callback, never()).Continue();
+
+            // When: A chunk arrives and the producer signals readiness
+            chunks.add("data: 1\n\n".getBytes(StandardCharsets.UTF_8));
+            listener.get().run();
+
+            // Then: CEF is continued and the next read returns the chunk
+            verify(callback).Continue();
+            assertThat(handler.readResponse(buffer, buffer.length, bytesRead, mock(CefCallback.class))).isTrue();
+            assertThat(new String(buffer, 0, bytesRead.get(), StandardCharsets.UTF_8)).isEqualTo("data: 1\n\n");
+
+            // When: The producer finishes
+            done.set(true);
+
+            // Then: The body ends
+            assertThat(handler.readResponse(buffer, buffer.length, bytesRead, mock(CefCallback.class))).isFalse();
+            assertThat(bytesRead.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should never offer the producer more than CEF asked for")
+        void testProducerBoundedByBytesToRead() {
+            // Given: Producer recording the space it is offered
+            AtomicReference<Integer> offered = new AtomicReference<>();
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.stream((target, ready) -> {
+                offered.set(target.remaining());
+                return -1;
+            }, "application/octet-stream"));
+
+            // When: CEF reads 10 bytes into a larger buffer
+            handler.readResponse(new byte[100], 10, new IntRef(), mock(CefCallback.class));
+
+            // Then: The producer sees exactly 10 bytes of room
+            assertThat(offered.get()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Should end the body and close the producer when it fails")
+        void testProducerFailure() {
+            // Given: Producer that fails after one chunk
+            AtomicBoolean closed = new AtomicBoolean();
+            ApiResponse.ChunkProducer producer = new ApiResponse.ChunkProducer() {
+                private int calls;
+
+                @Override
+                public int produce(ByteBuffer target, Runnable ready) throws IOException {
+                    if (calls++ > 0) {
+                        throw new IOException("disk gone");
+                    }
+                    target.put((byte) 'x');
+                    return 1;
+                }
+
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            };
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.stream(producer, "text/plain"));
+
+            // When: Reading the body
+            byte[] body = readAll(handler, 8);
+
+            // Then: The body is cut short and the producer closed
+            assertThat(body).isEqualTo(new byte[]{'x'});
+            assertThat(closed).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Cancellation Tests")
+    class CancellationTests {
+
+        @Test
+        @DisplayName("Should close the stream once when the request is cancelled")
+        void testCancelClosesStream() throws IOException {
+            // Given: Streamed response, partially read
+            InputStream in = spy(new ByteArrayInputStream(data(1000)));
+            ApiResponseHandler handler = ApiResponseHandler.from(ApiResponse.stream(in, "application/octet-stream"));
+            handler.readResponse(new byte[100], 100, new IntRef(), mock(CefCallback.class));
+
+            // When: CEF cancels twice
+            handler.cancel();
+            handler.cancel();
+
+            // Then: The stream is closed once and further reads end the body
+            verify(in, times(1)).close();
+            IntRef bytesRead = new IntRef();
+            assertThat(handler.readResponse(new byte[100], 100, bytesRead, mock(CefCallback.class))).isFalse();
+            assertThat(bytesRead.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should close a stream produced after an async request was cancelled")
+        void testAsyncCancelClosesLateStream() throws IOException {
+            // Given: Async handler whose task has not run yet
+            Queue<Runnable> tasks = new ArrayDeque<>();
+            InputStream in = spy(new ByteArrayInputStream(data(10)));
+            AsyncResponseHandler handler = new AsyncResponseHandler(tasks::add,
+                    () -> ApiResponseHandler.from(ApiResponse.stream(in, "application/octet-stream")));
+            CefCallback callback = mock(CefCallback.class);
+            handler.processRequest(null, callback);
+
+            // When: CEF cancels, then the task produces the stream
+            handler.cancel();
+            tasks.remove().run();
+
+            // Then: CEF is not continued and the stream is closed
+            verify(callback, never()).Continue();
+            verify(in).close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should set status and headers of a streamed response")
+    void testStreamHeaders() {
+        // Given: Streamed response with a custom header
+        ApiResponseHandler handler = ApiResponseHandler.from(
+                ApiResponse.stream(new ByteArrayInputStream(new byte[0]), "text/csv")
+                        .header("Content-Disposition", "attachment; filename=export.csv"));
+        CefResponse response = mock(CefResponse.class);
+
+        // When: CEF asks for the headers
+        handler.getResponseHeaders(response, new IntRef(), new StringRef());
+
+        // Then: Status, MIME type and header are set
+        verify(response).setStatus(200);
+        verify(response).setMimeType("text/csv");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> headers = ArgumentCaptor.forClass(Map.class);
+        verify(response).setHeaderMap(headers.capture());
+        assertThat(headers.getValue()).containsEntry("Content-Disposition", "attachment; filename=export.csv");
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.api.cef;
+
+import com.example.api.mock.CefResponseReader.Head;
+import com.example.api.mock.MockCefFactory;
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.handler.CefResourceHandler;
+import org.cef.misc.IntRef;
+import org.cef.misc.StringRef;
+import org.cef.network.CefRequest;
+import org.cef.network.CefResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.example.api.mock.CefResponseReader.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("FileBody Tests")
+class FileBodyTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path video;
+    private byte[] data;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        data = new byte[10_000];
+        new Random(42).nextBytes(data);
+        video = tempDir.resolve("clip.webp");
+        Files.write(video, data);
+    }
+
+    private static ApiRequest request(String... headers) {
+        MockCefFactory.MockRequestBuilder builder = MockCefFactory.builder().url("http://localhost/media").method("GET");
+        for (int i = 0; i < headers.length; i += 2) {
+            builder.header(headers[i], headers[i + 1]);
+        }
+        return new ApiRequest(builder.build(), null, null);
+    }
+
+    @Nested
+    @DisplayName("Whole File Tests")
+    class WholeFileTests {
+
+        @Test
+        @DisplayName("Should serve a file with its length, MIME type and validators")
+        void testServeFile() {
+            // Given: File response without a range request
+            ApiResponse<Path> response = ApiResponse.file(video);
+            ApiResponseHandler handler = ApiResponseHandler.from(response, null, null, request());
+
+            // When: CEF reads headers and body
+            Head head = head(handler);
+            byte[] body = readAll(handler, 4096);
+
+            // Then: The whole file is sent with a known length
+            assertThat(response.getContentType()).isEqualTo("image/webp");
+            assertThat(head.status()).isEqualTo(200);
+            assertThat(head.length()).isEqualTo(data.length);
+            assertThat(head.headers()).containsEntry("Accept-Ranges", "bytes").containsKeys("ETag", "Last-Modified");
+            assertThat(body).isEqualTo(data);
+        }
+
+        @Test
+        @DisplayName("Should serve a large file through a mapped window")
+        void testServeLargeFile() throws IOException {
+            // Given: File above the mapping threshold
+            byte[] large = new byte[FileBody.MAP_THRESHOLD + 12_345];
+            new Random(7).nextBytes(large);
+            Path file = tempDir.resolve("large.bin");
+            Files.write(file, large);
+
+            // When: Reading it in CEF-sized chunks
+            byte[] body = readAll(ApiResponseHandler.from(ApiResponse.file(file)), 65_536);
+
+            // Then: The content arrives intact
+            assertThat(body).isEqualTo(large);
+        }
+
+        @Test
+        @DisplayName("Should return 404 for a missing file or a directory")
+        void testMissingFile() {
+            // When/Then: Neither can be served
+            assertThat(head(ApiResponseHandler.from(ApiResponse.file(tempDir.resolve("missing.txt")))).status())
+                    .isEqualTo(404);
+            assertThat(head(ApiResponseHandler.from(ApiResponse.file(tempDir))).status()).isEqualTo(404);
+        }
+    }
+
+    @Nested
+    @DisplayName("Range Tests")
+    class RangeTests {
+
+        @Test
+        @DisplayName("Should answer a byte range with 206 Partial Content")
+        void testRange() {
+            // Given: Request for bytes 100-199
+            ApiResponseHandler handler = ApiResponseHandler.from(
+                    ApiResponse.file(video), null, null, request("Range", "bytes=100-199"));
+
+            // When: CEF reads headers and body
+            Head head = head(handler);
+            byte[] body = readAll(handler, 33);
+
+            // Then: Only the range is sent
+            assertThat(head.status()).isEqualTo(206);
+            assertThat(head.length()).isEqualTo(100);
+            assertThat(head.headers()).containsEntry("Content-Range", "bytes 100-199/10000");
+            assertThat(body).isEqualTo(Arrays.copyOfRange(data, 100, 200));
+        }
+
+        @Test
+        @DisplayName("Should answer open-ended and suffix ranges")
+        void testOpenAndSuffixRanges() {
+            // When: Asking for everything from 9000 and for the last 50 bytes
+            ApiResponseHandler from = ApiResponseHandler.from(
+                    ApiResponse.file(video), null, null, request("Range", "bytes=9000-"));
+            ApiResponseHandler suffix = ApiResponseHandler.from(
+                    ApiResponse.file(video), null, null, request("Range", "bytes=-50"));
+
+            // Then: Both end at the last byte
+            assertThat(head(from).headers()).containsEntry("Content-Range", "bytes 9000-9999/10000");
+            assertThat(readAll(from, 4096)).isEqualTo(Arrays.copyOfRange(data, 9000, 10_000));
+            assertThat(head(suffix).headers()).containsEntry("Content-Range", "bytes 9950-9999/10000");
+            assertThat(readAll(suffix, 4096)).isEqualTo(Arrays.copyOfRange(data, 9950, 10_000));
+        }
+
+        @Test
+        @DisplayName("Should return 416 for a range past the end")
+        void testUnsatisfiableRange() {
+            // When: Asking for bytes after the end of the file
+            Head head = head(ApiResponseHandler.from(
+                    ApiResponse.file(video), null, null, request("Range", "bytes=10000-")));
+
+            // Then: Range Not Satisfiable with the full length
+            assertThat(head.status()).isEqualTo(416);
+            assertThat(head.length()).isZero();
+            assertThat(head.headers()).containsEntry("Content-Range", "bytes */10000");
+        }
+
+        @Test
+        @DisplayName("Should send the whole file for multiple or malformed ranges")
+        void testIgnoredRanges() {
+            // When/Then: Unsupported range headers are ignored
+            assertThat(head(ApiResponseHandler.from(
+                    ApiResponse.file(video), null, null, request("Range", "bytes=0-1,5-6"))).status()).isEqualTo(200);
+            assertThat(head(ApiResponseHandler.from(
+                    ApiResponse.file(video), null, null, request("Range", "bytes=9-2"))).status()).isEqualTo(200);
+            assertThat(head(ApiResponseHandler.from(
+                    ApiResponse.file(video), null, null, request("Range", "items=0-9"))).status()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("Should honour If-Range only while the file is unchanged")
+        void testIfRange() {
+            // Given: The ETag of the current file
+            String etag = head(ApiResponseHandler.from(ApiResponse.file(video))).headers().get("ETag");
+
+            // When: Range requests validated with the current and a stale ETag
+            Head current = head(ApiResponseHandler.from(
+                    ApiResponse.file(video), null, null, request("Range", "bytes=0-9", "If-Range", etag)));
+            Head stale = head(ApiResponseHandler.from(
+                    ApiResponse.file(video), null, null, request("Range", "bytes=0-9", "If-Range", "\"stale\"")));
+
+            // Then: Only the current one gets a partial response
+            assertThat(current.status()).isEqualTo(206);
+            assertThat(stale.status()).isEqualTo(200);
+            assertThat(stale.length()).isEqualTo(data.length);
+        }
+
+        @Test
+        @DisplayName("Should not apply ranges to non-200 responses")
+        void testRangeIgnoredForOtherStatus() {
+            // When: A file is returned with another status
+            Head head = head(ApiResponseHandler.from(
+                    ApiResponse.status(203, video), null, null, request("Range", "bytes=0-9")));
+
+            // Then: The whole file is sent with that status
+            assertThat(head.status()).isEqualTo(203);
+            assertThat(head.length()).isEqualTo(data.length);
+        }
+    }
+
+    @Nested
+    @DisplayName("Classpath Resource Tests")
+    class ClasspathResourceTests {
+
+        @Test
+        @DisplayName("Should serve a range of a classpath resource")
+        void testResourceRange() {
+            // Given: This test's own class file
+            ApiResponseHandler handler = ApiResponseHandler.from(
+                    ApiResponse.resource(FileBodyTest.class, "FileBodyTest.class"), null, null,
+                    request("Range", "bytes=0-3"));
+
+            // When/Then: The first four bytes are the class file magic
+            assertThat(head(handler).status()).isEqualTo(206);
+            assertThat(readAll(handler, 16)).isEqualTo(new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE});
+        }
+
+        @Test
+        @DisplayName("Should serve a resource from a module image or JAR")
+        void testJarResource() {
+            // Given: A JDK class, which does not live on disk
+            ApiResponseHandler handler = ApiResponseHandler.from(
+                    ApiResponse.resource(Object.class.getResource("/java/lang/Object.class")), null, null,
+                    request("Range", "bytes=0-3"));
+
+            // When/Then: It is streamed from its URL connection
+            assertThat(readAll(handler, 16)).isEqualTo(new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE});
+        }
+
+        @Test
+        @DisplayName("Should return 404 for a missing resource")
+        void testMissingResource() {
+            // When/Then: The resource does not exist
+            assertThat(head(ApiResponseHandler.from(ApiResponse.resource(FileBodyTest.class, "/missing.html"))).status())
+                    .isEqualTo(404);
+        }
+    }
+
+    @Test
+    @DisplayName("Should pass the request's Range header from a route to the file body")
+    void testRangeThroughRequestHandler() {
+        // Given: Route serving the file
+        ApiCefRequestHandler handler = ApiCefRequestHandler.builder(MockCefFactory.createMockProject())
+                .withRoute("/media", HttpMethod.GET, req -> ApiResponse.file(video))
+                .build();
+        CefRequest cefRequest = MockCefFactory.builder()
+                .url("http://localhost/media").method("GET").header("Range", "bytes=0-9").build();
+
+        CefBrowser browser = MockCefFactory.createMockBrowser();
+        CefFrame frame = MockCefFactory.createMockFrame();
+
+        // When: CEF asks for the resource handler
+        CefResourceHandler resourceHandler = handler
+                .getResourceRequestHandler(browser, frame, cefRequest, false, false, null, null)
+                .getResourceHandler(browser, frame, cefRequest);
+
+        // Then: The response is partial
+        CefResponse response = mock(CefResponse.class);
+        IntRef length = new IntRef();
+        resourceHandler.getResponseHeaders(response, length, new StringRef());
+        verify(response).setStatus(206);
+        assertThat(length.get()).isEqualTo(10);
+    }
+}
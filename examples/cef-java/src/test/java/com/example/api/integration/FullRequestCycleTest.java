@@ -18,6 +18,7 @@ import org.cef.network.CefResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -338,6 +339,55 @@ class FullRequestCycleTest {
         assertEquals(405, readStatus(resourceHandler, cefRequest));
     }
 
+    @Test
+    void testMethodMismatchListsAllowedMethods() {
+        // /api/tasks has GET and POST: the 405 for DELETE should say so in an Allow header
+        ApiCefRequestHandler apiHandler = ApiCefRequestHandler.builder(mockProject)
+            .withApiRoutes()
+            .build();
+
+        CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost:5173/api/tasks", "DELETE");
+        CefBrowser browser = MockCefFactory.createMockBrowser();
+        CefFrame frame = MockCefFactory.createMockFrame();
+
+        CefResourceRequestHandler resourceRequestHandler = apiHandler.getResourceRequestHandler(
+            browser, frame, cefRequest, false, false, null, null
+        );
+        assertNotNull(resourceRequestHandler);
+
+        CefResourceHandler resourceHandler = resourceRequestHandler.getResourceHandler(browser, frame, cefRequest);
+        assertEquals("GET, POST", readHeaders(resourceHandler).get("Allow"));
+    }
+
+    @Test
+    void testResourceRequestHandlerIsPerRequest() {
+        // The routing decision travels with the handler, so concurrent requests must not share one
+        ApiCefRequestHandler apiHandler = ApiCefRequestHandler.builder(mockProject)
+            .withApiRoutes()
+            .build();
+
+        CefBrowser browser = MockCefFactory.createMockBrowser();
+        CefFrame frame = MockCefFactory.createMockFrame();
+        CefResourceRequestHandler first = apiHandler.getResourceRequestHandler(browser, frame,
+            MockCefFactory.createMockRequest("http://localhost:5173/api/tasks", "GET"), false, false, null, null);
+        CefResourceRequestHandler second = apiHandler.getResourceRequestHandler(browser, frame,
+            MockCefFactory.createMockRequest("http://localhost:5173/api/tasks", "POST"), false, false, null, null);
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotSame(first, second);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> readHeaders(CefResourceHandler resourceHandler) {
+        assertNotNull(resourceHandler);
+        CefResponse response = mock(CefResponse.class, withSettings().lenient());
+        resourceHandler.getResponseHeaders(response, new IntRef(), new StringRef());
+        org.mockito.ArgumentCaptor<Map<String, String>> headersCaptor = org.mockito.ArgumentCaptor.forClass(Map.class);
+        verify(response).setHeaderMap(headersCaptor.capture());
+        return headersCaptor.getValue();
+    }
+
     private int readStatus(CefResourceHandler resourceHandler, CefRequest cefRequest) {
         assertNotNull(resourceHandler);
         CefResponse response = mock(CefResponse.class, withSettings().lenient());
@@ -0,0 +1,307 @@
+package com.example.api.interceptor;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("InterceptorChain Tests")
+class InterceptorChainTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private final ApiRequest request = mock(ApiRequest.class);
+
+    /** Records every phase it is called for. */
+    private class Recording implements RequestInterceptor {
+        private final String name;
+
+        Recording(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void beforeHandle(ApiRequest request) {
+            calls.add(name + ".before");
+        }
+
+        @Override
+        public void afterHandle(ApiResponse<?> response, long durationMs) {
+            calls.add(name + ".after");
+        }
+
+        @Override
+        public void onError(Exception exception, ApiRequest request) {
+            calls.add(name + ".error");
+        }
+    }
+
+    /** Only overrides beforeHandle. */
+    private class BeforeOnly implements RequestInterceptor {
+        @Override
+        public void beforeHandle(ApiRequest request) {
+            calls.add("beforeOnly.before");
+        }
+    }
+
+    /** Overrides no phase at all. */
+    private static class Inert implements RequestInterceptor {
+    }
+
+    private static List<InterceptorChain.Scoped> global(RequestInterceptor... interceptors) {
+        List<InterceptorChain.Scoped> scoped = new ArrayList<>();
+        for (RequestInterceptor interceptor : interceptors) {
+            scoped.add(InterceptorChain.Scoped.global(interceptor));
+        }
+        return scoped;
+    }
+
+    @Nested
+    @DisplayName("Compilation Tests")
+    class CompileTests {
+
+        @Test
+        @DisplayName("Should run phases in registration order")
+        void testRegistrationOrder() throws Exception {
+            InterceptorChain chain = InterceptorChain.compile(
+                    global(new Recording("a"), new Recording("b")), HttpMethod.GET, "/api/tasks");
+
+            chain.beforeHandle(request);
+            chain.afterHandle(ApiResponse.ok("done"), 1);
+            chain.onError(new IllegalStateException(), request);
+
+            assertThat(calls).containsExactly(
+                    "a.before", "b.before", "a.after", "b.after", "a.error", "b.error");
+        }
+
+        @Test
+        @DisplayName("Should only call interceptors in the phases they override")
+        void testPhasesOnlyForOverrides() throws Exception {
+            InterceptorChain chain = InterceptorChain.compile(
+                    global(new BeforeOnly(), new Inert()), HttpMethod.GET, "/api/tasks");
+
+            chain.beforeHandle(request);
+            chain.afterHandle(ApiResponse.ok("done"), 1);
+            chain.onError(new IllegalStateException(), request);
+
+            assertThat(calls).containsExactly("beforeOnly.before");
+        }
+
+        @Test
+        @DisplayName("Interceptors overriding nothing should compile to the empty chain")
+        void testInertInterceptorsCompileToEmpty() {
+            InterceptorChain chain = InterceptorChain.compile(
+                    global(new Inert(), new Inert()), HttpMethod.GET, "/api/tasks");
+
+            assertThat(chain).isSameAs(InterceptorChain.EMPTY);
+            assertThat(chain.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should drop an interceptor whose forRoute returns null")
+        void testForRouteNullDropsInterceptor() throws Exception {
+            RequestInterceptor onlyTasks = new Recording("tasks") {
+                @Override
+                public RequestInterceptor forRoute(HttpMethod method, String pattern) {
+                    return pattern.startsWith("/api/tasks") ? this : null;
+                }
+            };
+            List<InterceptorChain.Scoped> interceptors = global(onlyTasks);
+
+            InterceptorChain.compile(interceptors, HttpMethod.GET, "/api/tasks").beforeHandle(request);
+            assertThat(InterceptorChain.compile(interceptors, HttpMethod.GET, "/api/users").isEmpty()).isTrue();
+            assertThat(calls).containsExactly("tasks.before");
+        }
+
+        @Test
+        @DisplayName("Should run the interceptor forRoute binds for the route")
+        void testForRouteBinding() throws Exception {
+            RequestInterceptor perRoute = new RequestInterceptor() {
+                @Override
+                public RequestInterceptor forRoute(HttpMethod method, String pattern) {
+                    return new Recording(method + " " + pattern);
+                }
+            };
+
+            InterceptorChain.compile(global(perRoute), HttpMethod.PUT, "/api/tasks/{taskId}").beforeHandle(request);
+
+            assertThat(calls).containsExactly("PUT /api/tasks/{taskId}.before");
+        }
+
+        @Test
+        @DisplayName("Should stop at the first beforeHandle failure")
+        void testBeforeHandleFailureStopsChain() {
+            RequestInterceptor failing = new RequestInterceptor() {
+                @Override
+                public void beforeHandle(ApiRequest request) {
+                    throw new IllegalStateException("denied");
+                }
+            };
+            InterceptorChain chain = InterceptorChain.compile(
+                    global(failing, new Recording("later")), HttpMethod.GET, "/api/tasks");
+
+            assertThatThrownBy(() -> chain.beforeHandle(request))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("denied");
+            assertThat(calls).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should keep running afterHandle when one interceptor fails")
+        void testAfterHandleFailureIsIsolated() {
+            RequestInterceptor failing = new RequestInterceptor() {
+                @Override
+                public void afterHandle(ApiResponse<?> response, long durationMs) {
+                    throw new IllegalStateException("broken");
+                }
+            };
+            InterceptorChain chain = InterceptorChain.compile(
+                    global(failing, new Recording("later")), HttpMethod.GET, "/api/tasks");
+
+            chain.afterHandle(ApiResponse.ok("done"), 1);
+
+            assertThat(calls).containsExactly("later.after");
+        }
+    }
+
+    @Nested
+    @DisplayName("Scope Tests")
+    class ScopeTests {
+
+        @Test
+        @DisplayName("Unscoped interceptor should apply to every route")
+        void testGlobalScope() {
+            InterceptorChain.Scoped scoped = InterceptorChain.Scoped.global(new Inert());
+
+            assertThat(scoped.appliesTo("/api/tasks")).isTrue();
+            assertThat(scoped.appliesTo("/")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Trailing ** should cover the prefix and everything below it")
+        void testDoubleWildcard() {
+            InterceptorChain.Scoped scoped = new InterceptorChain.Scoped("/api/tasks/**", new Inert());
+
+            assertThat(scoped.appliesTo("/api/tasks")).isTrue();
+            assertThat(scoped.appliesTo("/api/tasks/{taskId}")).isTrue();
+            assertThat(scoped.appliesTo("/api/tasks/{taskId}/status")).isTrue();
+            assertThat(scoped.appliesTo("/api/users")).isFalse();
+            assertThat(scoped.appliesTo("/api/tasksets")).isFalse();
+        }
+
+        @Test
+        @DisplayName("* should match exactly one segment, including path variables")
+        void testSingleWildcard() {
+            InterceptorChain.Scoped scoped = new InterceptorChain.Scoped("/api/tasks/*/status", new Inert());
+
+            assertThat(scoped.appliesTo("/api/tasks/{taskId}/status")).isTrue();
+            assertThat(scoped.appliesTo("/api/tasks/{taskId}")).isFalse();
+            assertThat(scoped.appliesTo("/api/tasks/{taskId}/status/history")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Scope without wildcards should match only the same pattern")
+        void testExactScope() {
+            InterceptorChain.Scoped scoped = new InterceptorChain.Scoped("/api/tasks", new Inert());
+
+            assertThat(scoped.appliesTo("/api/tasks")).isTrue();
+            assertThat(scoped.appliesTo("/api/tasks/{taskId}")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Out-of-scope interceptors should not be compiled into the chain")
+        void testScopedCompilation() throws Exception {
+            List<InterceptorChain.Scoped> interceptors = List.of(
+                    InterceptorChain.Scoped.global(new Recording("log")),
+                    new InterceptorChain.Scoped("/api/tasks/**", new Recording("auth")));
+
+            InterceptorChain.compile(interceptors, HttpMethod.GET, "/api/users").beforeHandle(request);
+            InterceptorChain.compile(interceptors, HttpMethod.GET, "/api/tasks/{taskId}").beforeHandle(request);
+
+            assertThat(calls).containsExactly("log.before", "log.before", "auth.before");
+        }
+    }
+
+    @Nested
+    @DisplayName("Registry Tests")
+    class RegistryTests {
+
+        @Test
+        @DisplayName("Should compile each route once and reuse its chain")
+        void testChainCachedPerRoute() {
+            int[] bindings = {0};
+            RequestInterceptor counting = new Recording("counting") {
+                @Override
+                public RequestInterceptor forRoute(HttpMethod method, String pattern) {
+                    bindings[0]++;
+                    return this;
+                }
+            };
+            InterceptorChain.Registry registry = new InterceptorChain.Registry(global(counting));
+
+            InterceptorChain first = registry.chainFor(HttpMethod.GET, "/api/tasks");
+            InterceptorChain second = registry.chainFor(HttpMethod.GET, "/api/tasks");
+            InterceptorChain otherMethod = registry.chainFor(HttpMethod.POST, "/api/tasks");
+
+            assertThat(second).isSameAs(first);
+            assertThat(otherMethod).isNotSameAs(first);
+            assertThat(bindings[0]).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should compile fallback chains per request without caching them")
+        void testFallbackChainNotCached() throws Exception {
+            int[] bindings = {0};
+            RequestInterceptor counting = new Recording("counting") {
+                @Override
+                public RequestInterceptor forRoute(HttpMethod method, String pattern) {
+                    bindings[0]++;
+                    return this;
+                }
+            };
+            RequestInterceptor scoped = new Recording("scoped");
+            InterceptorChain.Registry registry = new InterceptorChain.Registry(List.of(
+                    InterceptorChain.Scoped.global(counting),
+                    new InterceptorChain.Scoped("/static/**", scoped)));
+
+            InterceptorChain first = registry.fallbackChainFor(HttpMethod.GET, "/static/app.js");
+            InterceptorChain second = registry.fallbackChainFor(HttpMethod.GET, "/static/app.js");
+            InterceptorChain outside = registry.fallbackChainFor(HttpMethod.GET, "/other");
+
+            first.beforeHandle(request);
+            outside.beforeHandle(request);
+
+            assertThat(second).isNotSameAs(first);
+            assertThat(bindings[0]).isEqualTo(3);
+            assertThat(calls).containsExactly("counting.before", "scoped.before", "counting.before");
+        }
+
+        @Test
+        @DisplayName("Registry without interceptors should always return the empty chain")
+        void testEmptyRegistry() {
+            InterceptorChain.Registry registry = new InterceptorChain.Registry(List.of());
+
+            assertThat(registry.chainFor(HttpMethod.GET, "/api/tasks")).isSameAs(InterceptorChain.EMPTY);
+            assertThat(registry.interceptors()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should list interceptors of every scope in registration order")
+        void testInterceptorsListed() {
+            RequestInterceptor log = new Inert();
+            RequestInterceptor auth = new Inert();
+            InterceptorChain.Registry registry = new InterceptorChain.Registry(List.of(
+                    InterceptorChain.Scoped.global(log),
+                    new InterceptorChain.Scoped("/api/tasks/**", auth)));
+
+            assertThat(registry.interceptors()).containsExactly(log, auth);
+        }
+    }
+}
@@ -640,6 +640,96 @@ class ValidationInterceptorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Per-Route Binding Tests")
+    class ForRouteTests {
+
+        @Test
+        @DisplayName("Route with constraints should be bound to a validating interceptor")
+        void testForRouteBindsValidation() {
+            RequestInterceptor bound = interceptor.forRoute(HttpMethod.DELETE, "/api/tasks/{taskId}");
+            when(mockRequest.getPathVariable("taskId")).thenReturn(null);
+
+            assertThat(bound).isNotNull();
+            assertThatThrownBy(() -> bound.beforeHandle(mockRequest))
+                    .isInstanceOf(ValidationException.class);
+            // The route was bound up front, so the request's method and path are not consulted
+            verify(mockRequest, never()).getMethod();
+            verify(mockRequest, never()).getPath();
+        }
+
+        @Test
+        @DisplayName("Route without constraints should drop the interceptor")
+        void testForRouteWithoutValidation() {
+            assertThat(interceptor.forRoute(HttpMethod.POST, "/api/unknown/route")).isNull();
+            assertThat(interceptor.forRoute(HttpMethod.POST, "/api/tasks/{taskId}")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Fail-Fast Tests")
+    class FailFastTests {
+
+        private final ValidationInterceptor failFast = new ValidationInterceptor(true);
+
+        @Test
+        @DisplayName("Should report every violation by default")
+        void testDefaultIsNotFailFast() {
+            assertThat(interceptor.isFailFast()).isFalse();
+            assertThat(failFast.isFailFast()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Fail-fast should throw at the first violation")
+        void testStopsAtFirstViolation() {
+            when(mockRequest.getMethod()).thenReturn(HttpMethod.GET);
+            when(mockRequest.getPath()).thenReturn("/api/tasks");
+            when(mockRequest.getQueryParam("status")).thenReturn("invalid_status");
+            when(mockRequest.getQueryParam("page")).thenReturn("0");
+            when(mockRequest.getQueryParam("size")).thenReturn("101");
+
+            assertThatThrownBy(() -> failFast.beforeHandle(mockRequest))
+                    .isInstanceOf(ValidationException.class)
+                    .satisfies(ex -> {
+                        ValidationException vex = (ValidationException) ex;
+                        assertThat(vex.getErrors()).hasSize(1);
+                        assertThat(vex.getErrors().get(0).getParameter()).isEqualTo("status");
+                        assertThat(vex.getErrors().get(0).getConstraint()).isEqualTo("enum");
+                    });
+        }
+
+        @Test
+        @DisplayName("Fail-fast route binding should throw at the first violation")
+        void testBoundRouteStopsAtFirstViolation() {
+            RequestInterceptor bound = failFast.forRoute(HttpMethod.GET, "/api/tasks");
+            when(mockRequest.getQueryParam("page")).thenReturn("abc");
+            when(mockRequest.getQueryParam("size")).thenReturn("0");
+
+            assertThat(bound).isNotNull();
+            assertThatThrownBy(() -> bound.beforeHandle(mockRequest))
+                    .isInstanceOf(ValidationException.class)
+                    .satisfies(ex -> {
+                        ValidationException vex = (ValidationException) ex;
+                        assertThat(vex.getErrors()).hasSize(1);
+                        assertThat(vex.getErrors().get(0).getParameter()).isEqualTo("page");
+                        assertThat(vex.getErrors().get(0).getConstraint()).isEqualTo("type");
+                    });
+        }
+
+        @Test
+        @DisplayName("Fail-fast should pass valid parameters")
+        void testValidParameters() {
+            when(mockRequest.getMethod()).thenReturn(HttpMethod.GET);
+            when(mockRequest.getPath()).thenReturn("/api/tasks");
+            when(mockRequest.getQueryParam("status")).thenReturn("pending");
+            when(mockRequest.getQueryParam("page")).thenReturn("1");
+            when(mockRequest.getQueryParam("size")).thenReturn("100");
+
+            assertThatCode(() -> failFast.beforeHandle(mockRequest))
+                    .doesNotThrowAnyException();
+        }
+    }
+
     @Nested
     @DisplayName("Edge Cases and Special Characters Tests")
     class EdgeCaseTests {
@@ -0,0 +1,108 @@
+package com.example.api.mock;
+
+import org.cef.callback.CefCallback;
+import org.cef.handler.CefResourceHandler;
+import org.cef.misc.IntRef;
+import org.cef.misc.StringRef;
+import org.cef.network.CefResponse;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Reads a response back from a CEF resource handler the way the browser does.
+ * Shared by the tests of response handlers.
+ */
+public final class CefResponseReader {
+
+    /**
+     * How long a read waits for a handler with no data ready to continue CEF.
+     */
+    private static final long CONTINUE_TIMEOUT_SECONDS = 5;
+
+    private CefResponseReader() {
+    }
+
+    /**
+     * Response status, length and headers as CEF receives them.
+     */
+    public record Head(int status, int length, Map<String, String> headers) {
+    }
+
+    /**
+     * Ask the handler for its response headers.
+     */
+    @SuppressWarnings("unchecked")
+    public static Head head(CefResourceHandler handler) {
+        CefResponse response = mock(CefResponse.class);
+        IntRef length = new IntRef();
+        handler.getResponseHeaders(response, length, new StringRef());
+        ArgumentCaptor<Integer> status = ArgumentCaptor.forClass(Integer.class);
+        verify(response).setStatus(status.capture());
+        ArgumentCaptor<Map<String, String>> headers = ArgumentCaptor.forClass(Map.class);
+        verify(response, atMostOnce()).setHeaderMap(headers.capture());
+        return new Head(status.getValue(), length.get(), headers.getAllValues().isEmpty() ? Map.of() : headers.getValue());
+    }
+
+    /**
+     * Response status reported to CEF.
+     */
+    public static int status(CefResourceHandler handler) {
+        return head(handler).status();
+    }
+
+    /**
+     * Response length reported to CEF, -1 if unknown.
+     */
+    public static int responseLength(CefResourceHandler handler) {
+        return head(handler).length();
+    }
+
+    /**
+     * Read the whole body in chunks of {@code chunkSize}. When a read returns no bytes, waits for
+     * the handler to continue CEF before reading again, like the browser.
+     */
+    public static byte[] readAll(CefResourceHandler handler, int chunkSize) {
+        Semaphore continued = new Semaphore(0);
+        CefCallback callback = mock(CefCallback.class);
+        doAnswer(invocation -> {
+            continued.release();
+            return null;
+        }).when(callback).Continue();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[chunkSize];
+        IntRef bytesRead = new IntRef();
+        while (handler.readResponse(buffer, buffer.length, bytesRead, callback)) {
+            if (bytesRead.get() == 0) {
+                awaitContinue(continued);
+            }
+            out.write(buffer, 0, bytesRead.get());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Read the whole body as UTF-8 text, in chunks of {@code chunkSize}.
+     */
+    public static String readString(CefResourceHandler handler, int chunkSize) {
+        return new String(readAll(handler, chunkSize), StandardCharsets.UTF_8);
+    }
+
+    private static void awaitContinue(Semaphore continued) {
+        try {
+            if (!continued.tryAcquire(CONTINUE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new AssertionError("Handler returned no data and never continued CEF");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted waiting for the handler to continue CEF", e);
+        }
+    }
+}
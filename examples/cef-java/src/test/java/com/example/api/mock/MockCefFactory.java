@@ -6,6 +6,7 @@ import org.cef.network.CefPostData;
 import org.cef.network.CefPostDataElement;
 import org.cef.network.CefRequest;
 
+import java.util.List;
 import java.util.Vector;
 
 import static org.mockito.Mockito.*;
@@ -48,9 +49,21 @@ public class MockCefFactory {
         headers.forEach((key, value) -> {
             when(mock.getHeaderByName(key)).thenReturn(value);
         });
+        stubHeaderMap(mock, headers);
         return mock;
     }
 
+    /**
+     * Mock getHeaderMap(Map) to fill the map with the given headers.
+     */
+    private static void stubHeaderMap(CefRequest mock, java.util.Map<String, String> headers) {
+        doAnswer(invocation -> {
+            java.util.Map<String, String> headerMap = invocation.getArgument(0);
+            headerMap.putAll(headers);
+            return null;
+        }).when(mock).getHeaderMap(any());
+    }
+
     /**
      * Create mock CefBrowser.
      */
@@ -67,33 +80,82 @@ public class MockCefFactory {
         return mock;
     }
 
+    /**
+     * Create mock CefRequest whose body arrives in several post data elements.
+     */
+    public static CefRequest createMockRequestWithBodyParts(String url, String method, byte[]... parts) {
+        CefRequest mock = createMockRequest(url, method);
+        CefPostData postData = createMockPostData(parts);
+        when(mock.getPostData()).thenReturn(postData);
+        return mock;
+    }
+
     /**
      * Create mock CefPostData with string content.
      */
     public static CefPostData createMockPostData(String data) {
+        return createMockPostData(data.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Create mock CefPostData with one bytes element per part.
+     */
+    public static CefPostData createMockPostData(byte[]... parts) {
+        CefPostDataElement[] elements = new CefPostDataElement[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            elements[i] = createMockPostDataElement(parts[i]);
+        }
+        return createMockPostData(elements);
+    }
+
+    /**
+     * Create mock CefPostData with the given elements.
+     */
+    public static CefPostData createMockPostData(CefPostDataElement... elements) {
         CefPostData mockPostData = mock(CefPostData.class, withSettings().lenient());
+        List<CefPostDataElement> mockElements = List.of(elements);
+
+        // Setup post data - getElements(Vector) fills vector (void method)
+        doAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            Vector<CefPostDataElement> target = invocation.getArgument(0);
+            target.addAll(mockElements);
+            return null;
+        }).when(mockPostData).getElements(any());
+        when(mockPostData.getElementCount()).thenReturn(elements.length);
+
+        return mockPostData;
+    }
+
+    /**
+     * Create mock bytes CefPostDataElement.
+     */
+    public static CefPostDataElement createMockPostDataElement(byte[] bytes) {
         CefPostDataElement mockElement = mock(CefPostDataElement.class, withSettings().lenient());
 
         // Setup element - getBytes(int size, byte[] buffer) returns bytes read
-        byte[] bytes = data.getBytes(java.nio.charset.StandardCharsets.UTF_8);
         when(mockElement.getBytes(anyInt(), any(byte[].class))).thenAnswer(invocation -> {
+            int size = invocation.getArgument(0);
             byte[] buffer = invocation.getArgument(1);
-            int length = Math.min(bytes.length, buffer.length);
+            int length = Math.min(bytes.length, Math.min(size, buffer.length));
             System.arraycopy(bytes, 0, buffer, 0, length);
             return length;
         });
         when(mockElement.getBytesCount()).thenReturn(bytes.length);
+        when(mockElement.getType()).thenReturn(CefPostDataElement.Type.PDE_TYPE_BYTES);
 
-        // Setup post data - getElements(Vector) fills vector (void method)
-        doAnswer(invocation -> {
-            @SuppressWarnings("unchecked")
-            Vector<CefPostDataElement> elements = invocation.getArgument(0);
-            elements.add(mockElement);
-            return null;
-        }).when(mockPostData).getElements(any());
-        when(mockPostData.getElementCount()).thenReturn(1);
+        return mockElement;
+    }
 
-        return mockPostData;
+    /**
+     * Create mock CefPostDataElement for a file the browser uploads from disk.
+     */
+    public static CefPostDataElement createMockFilePostDataElement(String path) {
+        CefPostDataElement mockElement = mock(CefPostDataElement.class, withSettings().lenient());
+        when(mockElement.getType()).thenReturn(CefPostDataElement.Type.PDE_TYPE_FILE);
+        when(mockElement.getFile()).thenReturn(path);
+        when(mockElement.getBytesCount()).thenReturn(0);
+        return mockElement;
     }
 
     /**
@@ -144,6 +206,7 @@ public class MockCefFactory {
             headers.forEach((key, value) -> {
                 when(mock.getHeaderByName(key)).thenReturn(value);
             });
+            stubHeaderMap(mock, headers);
 
             return mock;
         }
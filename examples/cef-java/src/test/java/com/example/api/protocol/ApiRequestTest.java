@@ -1,17 +1,26 @@
 package com.example.api.protocol;
 
+import com.example.api.exception.ApiException;
 import com.example.api.mock.MockCefFactory;
 import org.cef.browser.CefBrowser;
 import org.cef.browser.CefFrame;
 import org.cef.network.CefRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests for ApiRequest wrapper.
@@ -255,6 +264,26 @@ class ApiRequestTest {
         assertNull(request.getHeader("NonExistent"));
     }
 
+    @Test
+    void testCookieAccess() {
+        CefRequest cefRequest = MockCefFactory.createMockRequestWithHeaders(
+            "http://localhost/api/resource",
+            "GET",
+            Map.of("Cookie", "session=abc; visits=7;theme = dark")
+        );
+
+        ApiRequest request = new ApiRequest(
+            cefRequest,
+            MockCefFactory.createMockBrowser(),
+            MockCefFactory.createMockFrame()
+        );
+
+        assertEquals("abc", request.getCookie("session"));
+        assertEquals("7", request.getCookie("visits"));
+        assertEquals("dark", request.getCookie("theme"));
+        assertNull(request.getCookie("missing"));
+    }
+
     @Test
     void testLazyQueryParamsParsing() {
         CefRequest cefRequest = MockCefFactory.createMockRequest(
@@ -378,4 +407,117 @@ class ApiRequestTest {
         // Query params should still be accessible
         assertEquals("value", request.getQueryParam("query"));
     }
+
+    @Test
+    void testBodyLargerThanOneReadBuffer() {
+        // Used to be cut off at 64 KB
+        StringBuilder json = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < 10_000; i++) {
+            json.append(i == 0 ? "" : ",").append("\"item-").append(i).append('"');
+        }
+        json.append("]}");
+        CefRequest cefRequest = MockCefFactory.createMockRequestWithBody(
+            "http://localhost/api/items", "POST", json.toString());
+
+        ApiRequest request = new ApiRequest(cefRequest, null, null);
+
+        assertTrue(json.length() > 65_536);
+        assertEquals(json.length(), request.getBodyBytes().length);
+        @SuppressWarnings("unchecked")
+        Map<String, List<String>> body = request.getBody(Map.class);
+        assertEquals(10_000, body.get("items").size());
+        assertEquals("item-9999", body.get("items").get(9_999));
+    }
+
+    @Test
+    void testBodyBytes() {
+        String text = "caf\u00e9";
+        CefRequest cefRequest = MockCefFactory.createMockRequestWithBody(
+            "http://localhost/api/notes", "POST", text);
+
+        ApiRequest request = new ApiRequest(cefRequest, null, null);
+
+        byte[] bytes = request.getBodyBytes();
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), bytes);
+        assertSame(bytes, request.getBodyBytes());
+        assertEquals(text, request.getBodyString());
+    }
+
+    @Test
+    void testBodyStream() throws IOException {
+        CefRequest cefRequest = MockCefFactory.createMockRequestWithBody(
+            "http://localhost/api/notes", "POST", "plain text");
+
+        ApiRequest request = new ApiRequest(cefRequest, null, null);
+
+        try (InputStream in = request.getBodyStream()) {
+            assertEquals("plain text", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testBodyInSeveralElements() throws IOException {
+        CefRequest cefRequest = MockCefFactory.createMockRequestWithBodyParts(
+            "http://localhost/api/tasks", "POST",
+            "{\"title\":\"Split ".getBytes(StandardCharsets.UTF_8),
+            new byte[0],
+            "Task\"}".getBytes(StandardCharsets.UTF_8));
+
+        ApiRequest request = new ApiRequest(cefRequest, null, null);
+
+        try (InputStream in = request.getBodyStream()) {
+            assertEquals("{\"title\":\"Split Task\"}", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> body = request.getBody(Map.class);
+        assertEquals("Split Task", body.get("title"));
+        assertEquals("{\"title\":\"Split Task\"}", request.getBodyString());
+    }
+
+    @Test
+    void testNoBody() {
+        CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost/api/tasks", "GET");
+
+        ApiRequest request = new ApiRequest(cefRequest, null, null);
+
+        assertNull(request.getBodyBytes());
+        assertNull(request.getBodyStream());
+        assertNull(request.getBodyString());
+        assertNull(request.getBody(Map.class));
+    }
+
+    @Test
+    void testUploadedFileElement(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("task.json");
+        Files.writeString(file, "\"Uploaded Task\"");
+        CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost/api/tasks", "POST");
+        when(cefRequest.getPostData()).thenReturn(MockCefFactory.createMockPostData(
+            MockCefFactory.createMockPostDataElement("{\"title\":".getBytes(StandardCharsets.UTF_8)),
+            MockCefFactory.createMockFilePostDataElement(file.toString()),
+            MockCefFactory.createMockPostDataElement("}".getBytes(StandardCharsets.UTF_8))));
+
+        ApiRequest request = new ApiRequest(cefRequest, null, null);
+
+        RequestBody body = request.getRequestBody();
+        assertFalse(body.isInMemory());
+        @SuppressWarnings("unchecked")
+        Map<String, String> parsed = request.getBody(Map.class);
+        assertEquals("Uploaded Task", parsed.get("title"));
+        assertEquals("{\"title\":\"Uploaded Task\"}", request.getBodyString());
+
+        request.releaseBody();
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    void testMissingUploadedFile() {
+        CefRequest cefRequest = MockCefFactory.createMockRequest("http://localhost/api/tasks", "POST");
+        when(cefRequest.getPostData()).thenReturn(MockCefFactory.createMockPostData(
+            MockCefFactory.createMockFilePostDataElement("/nonexistent/upload.bin")));
+
+        ApiRequest request = new ApiRequest(cefRequest, null, null);
+
+        ApiException e = assertThrows(ApiException.class, request::getRequestBody);
+        assertEquals(500, e.getStatusCode());
+    }
 }
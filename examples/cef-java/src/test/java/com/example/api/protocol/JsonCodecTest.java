@@ -0,0 +1,64 @@
+package com.example.api.protocol;
+
+import com.example.api.dto.Task;
+import com.example.api.dto.TaskPriority;
+import com.example.api.dto.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for JsonCodec, a mapper with its per-type readers and writers.
+ */
+class JsonCodecTest {
+
+    @Test
+    void testReaderAndWriterAreCachedPerType() {
+        JsonCodec codec = JsonCodec.defaultCodec();
+
+        assertSame(codec.reader(Task.class), codec.reader(Task.class));
+        assertSame(codec.writer(Task.class), codec.writer(Task.class));
+        assertSame(codec.writer(Map.class), codec.writer(Map.class));
+        assertNotSame(codec.writer(Task.class), codec.writer(Map.class));
+    }
+
+    @Test
+    void testModelRoundTrip() throws Exception {
+        Task task = new Task("1", "Task1", "Desc", TaskStatus.PENDING, TaskPriority.HIGH, "user",
+            List.of("tag"), "2024-01-01T10:00:00Z", "2024-01-01T10:00:00Z", "2024-01-10T00:00:00Z");
+
+        String json = JsonCodec.defaultCodec().writer(Task.class).writeValueAsString(task);
+        Task read = JsonCodec.defaultCodec().reader(Task.class).readValue(json);
+
+        assertEquals("1", read.getId());
+        assertEquals(TaskStatus.PENDING, read.getStatus());
+        assertEquals(List.of("tag"), read.getTags());
+    }
+
+    @Test
+    void testCodecsOfDifferentMappersAreIndependent() throws Exception {
+        ObjectMapper mapper = JsonCodec.defaultMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        JsonCodec indented = new JsonCodec(mapper);
+
+        assertSame(mapper, indented.mapper());
+        assertNotSame(mapper, JsonCodec.defaultCodec().mapper());
+        assertTrue(indented.writer(Map.class).writeValueAsString(Map.of("id", 1)).contains("\n"));
+        assertEquals("{\"id\":1}", JsonCodec.defaultCodec().writer(Map.class).writeValueAsString(Map.of("id", 1)));
+    }
+
+    @Test
+    void testDefaultCodecIsShared() {
+        assertSame(JsonCodec.defaultCodec(), JsonCodec.defaultCodec());
+    }
+
+    @Test
+    void testRejectsNullMapper() {
+        assertThrows(NullPointerException.class, () -> new JsonCodec(null));
+    }
+}
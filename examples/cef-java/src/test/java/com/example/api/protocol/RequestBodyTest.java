@@ -0,0 +1,185 @@
+package com.example.api.protocol;
+
+import com.example.api.exception.ApiException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for RequestBody.
+ */
+class RequestBodyTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readAll(RequestBody body) throws IOException {
+        try (InputStream in = body.openStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private long filesIn(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void testSingleElementIsNotCopied() throws IOException {
+        byte[] data = bytes("{\"title\":\"Task\"}");
+
+        RequestBody body = RequestBody.builder(RequestBody.Spooling.DEFAULT).addBytes(data).build();
+
+        assertTrue(body.isInMemory());
+        assertEquals(data.length, body.size());
+        assertSame(data, body.toByteArray());
+        assertArrayEquals(data, readAll(body));
+    }
+
+    @Test
+    void testElementsAreJoinedInOrder() throws IOException {
+        RequestBody body = RequestBody.builder(RequestBody.Spooling.DEFAULT)
+            .addBytes(bytes("abc"))
+            .addBytes(new byte[0])
+            .addBytes(bytes("def"))
+            .build();
+
+        assertTrue(body.isInMemory());
+        assertEquals(6, body.size());
+        assertEquals("abcdef", new String(body.toByteArray(), StandardCharsets.UTF_8));
+        assertSame(body.toByteArray(), body.toByteArray());
+        assertEquals("abcdef", new String(readAll(body), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testBytesBeyondThresholdAreSpooled() throws IOException {
+        byte[] large = new byte[100_000];
+        new Random(42).nextBytes(large);
+
+        RequestBody body = RequestBody.builder(new RequestBody.Spooling(4, tempDir))
+            .addBytes(bytes("head"))
+            .addBytes(large)
+            .addBytes(bytes("tail"))
+            .build();
+
+        assertFalse(body.isInMemory());
+        assertEquals(large.length + 8, body.size());
+        byte[] content = readAll(body);
+        assertEquals("head", new String(content, 0, 4, StandardCharsets.UTF_8));
+        assertEquals("tail", new String(content, content.length - 4, 4, StandardCharsets.UTF_8));
+        assertArrayEquals(content, body.toByteArray());
+
+        body.close();
+        assertEquals(0, filesIn(tempDir));
+    }
+
+    @Test
+    void testFileElementIsReadInPlace() throws IOException {
+        byte[] upload = new byte[50_000];
+        new Random(7).nextBytes(upload);
+        Path file = tempDir.resolve("upload.bin");
+        Files.write(file, upload);
+
+        RequestBody body = RequestBody.builder(RequestBody.Spooling.DEFAULT)
+            .addBytes(bytes("--b\r\n"))
+            .addFile(file)
+            .addBytes(bytes("\r\n--b--"))
+            .build();
+
+        assertFalse(body.isInMemory());
+        assertEquals(upload.length + 12, body.size());
+        byte[] content = readAll(body);
+        assertArrayEquals(upload, Arrays.copyOfRange(content, 5, 5 + upload.length));
+
+        body.close();
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    void testTransferTo() throws IOException {
+        Path file = tempDir.resolve("upload.txt");
+        Files.write(file, bytes("file content"));
+        RequestBody body = RequestBody.builder(RequestBody.Spooling.DEFAULT)
+            .addBytes(bytes("before "))
+            .addFile(file)
+            .build();
+
+        Path target = tempDir.resolve("saved.txt");
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            assertEquals(19, body.transferTo(channel));
+        }
+
+        assertEquals("before file content", Files.readString(target));
+    }
+
+    @Test
+    void testEmptyFileIsSkipped() throws IOException {
+        Path file = tempDir.resolve("empty.txt");
+        Files.createFile(file);
+
+        RequestBody body = RequestBody.builder(RequestBody.Spooling.DEFAULT).addFile(file).build();
+
+        assertEquals(0, body.size());
+        assertTrue(body.isInMemory());
+        assertEquals(0, body.toByteArray().length);
+    }
+
+    @Test
+    void testMissingFile() {
+        assertThrows(IOException.class, () -> RequestBody.builder(RequestBody.Spooling.DEFAULT).addFile(tempDir.resolve("missing.bin")));
+    }
+
+    @Test
+    void testStreamFailsAfterClose() throws IOException {
+        Path file = tempDir.resolve("upload.txt");
+        Files.write(file, bytes("content"));
+        RequestBody body = RequestBody.builder(RequestBody.Spooling.DEFAULT).addFile(file).build();
+
+        body.close();
+
+        assertThrows(IOException.class, () -> readAll(body));
+    }
+
+    @Test
+    void testOf() {
+        byte[] data = bytes("body");
+
+        RequestBody body = RequestBody.of(data);
+
+        assertEquals(4, body.size());
+        assertSame(data, body.toByteArray());
+    }
+
+    @Test
+    void testNegativeThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestBody.Spooling(-1, null));
+    }
+
+    @Test
+    void testFailureIsApiException() throws IOException {
+        Path file = tempDir.resolve("upload.txt");
+        Files.write(file, bytes("content"));
+        RequestBody body = RequestBody.builder(RequestBody.Spooling.DEFAULT).addBytes(bytes("x")).addFile(file).build();
+        body.close();
+
+        ApiException e = assertThrows(ApiException.class, body::toByteArray);
+        assertEquals(500, e.getStatusCode());
+    }
+}
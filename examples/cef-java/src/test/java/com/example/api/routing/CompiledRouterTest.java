@@ -0,0 +1,119 @@
+package com.example.api.routing;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the generation-time CompiledRouter (example spec is generated with compiledRouter=true).
+ */
+class CompiledRouterTest {
+
+    private CompiledRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = new CompiledRouter();
+        for (int route = 0; route < CompiledRouter.ROUTE_COUNT; route++) {
+            String pattern = CompiledRouter.pattern(route);
+            router.register(route, req -> ApiResponse.ok(pattern));
+        }
+    }
+
+    @Test
+    void testRouteMetadata() {
+        assertEquals(8, CompiledRouter.ROUTE_COUNT);
+        for (int route = 0; route < CompiledRouter.ROUTE_COUNT; route++) {
+            RouteTree.MatchResult result = router.match(
+                CompiledRouter.pattern(route).replace("{taskId}", "1"), CompiledRouter.method(route));
+            assertNotNull(result, CompiledRouter.pattern(route));
+            assertEquals(CompiledRouter.pattern(route), result.pattern());
+        }
+    }
+
+    @Test
+    void testMatchesLiteralRoute() {
+        RouteTree.MatchResult result = router.match("/api/statistics", HttpMethod.GET);
+
+        assertNotNull(result);
+        assertEquals("/api/statistics", result.pattern());
+        assertEquals(Map.of(), result.pathVariables());
+    }
+
+    @Test
+    void testMatchesTemplateRouteAndCapturesVariables() {
+        RouteTree.MatchResult result = router.match("/api/tasks/task-42/status", HttpMethod.PATCH);
+
+        assertNotNull(result);
+        assertEquals("/api/tasks/{taskId}/status", result.pattern());
+        assertEquals(Map.of("taskId", "task-42"), result.pathVariables());
+    }
+
+    @Test
+    void testSelectsRouteByMethod() {
+        assertEquals("/api/tasks", router.match("/api/tasks", HttpMethod.GET).pattern());
+        assertEquals("/api/tasks", router.match("/api/tasks", HttpMethod.POST).pattern());
+        assertNotSame(router.match("/api/tasks", HttpMethod.GET).handler(),
+            router.match("/api/tasks", HttpMethod.POST).handler());
+        assertNotNull(router.match("/api/tasks/1", HttpMethod.DELETE));
+    }
+
+    @Test
+    void testWrongMethodDoesNotMatchButHasPath() {
+        assertNull(router.match("/api/statistics", HttpMethod.POST));
+        assertTrue(router.hasPath("/api/statistics"));
+        assertTrue(router.hasPath("/api/tasks/1/status"));
+    }
+
+    @Test
+    void testUnknownPathsDoNotMatch() {
+        assertNull(router.match("/api/unknown", HttpMethod.GET));
+        assertNull(router.match("/api/tasks/1/status/extra", HttpMethod.PATCH));
+        assertNull(router.match("/", HttpMethod.GET));
+        assertFalse(router.hasPath("/api"));
+        assertFalse(router.hasPath("/api/browser"));
+    }
+
+    @Test
+    void testIgnoresEmptySegments() {
+        assertNotNull(router.match("/api/statistics/", HttpMethod.GET));
+        assertNotNull(router.match("//api//statistics", HttpMethod.GET));
+        assertEquals(Map.of("taskId", "7"), router.match("//api/tasks//7/status/", HttpMethod.PATCH).pathVariables());
+        assertEquals("tasks", CompiledRouter.segment("/api//tasks/1/", 1));
+        assertEquals("1", CompiledRouter.segment("/api//tasks/1/", 2));
+        assertEquals(0, CompiledRouter.segmentStart("", 0));
+        assertEquals(1, CompiledRouter.segmentStart("/", 0));
+    }
+
+    @Test
+    void testUnregisteredRouteDoesNotMatch() {
+        CompiledRouter empty = new CompiledRouter();
+
+        assertNull(empty.match("/api/statistics", HttpMethod.GET));
+        assertTrue(empty.hasPath("/api/statistics"));
+    }
+
+    @Test
+    void testRouteTreeConsultsCompiledRoutesFirst() {
+        Function<ApiRequest, ApiResponse<?>> custom = req -> ApiResponse.ok("custom");
+        RouteTree tree = new RouteTree();
+        tree.addRoute("/api/statistics", HttpMethod.GET, custom);
+        tree.addRoute("/custom/{id}", HttpMethod.GET, custom);
+        tree.setCompiledRoutes(router);
+
+        RouteTree frozen = tree.freeze();
+
+        assertEquals("/api/statistics", frozen.match("/api/statistics", HttpMethod.GET).pattern());
+        assertNotSame(custom, frozen.match("/api/statistics", HttpMethod.GET).handler());
+        assertSame(custom, frozen.match("/custom/7", HttpMethod.GET).handler());
+        assertTrue(frozen.hasPath("/api/browser/notify"));
+        assertTrue(frozen.hasPath("/custom/7"));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.api.routing;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the immutable, array-backed PathVariables map and its use by RouteTree and CompiledRouter.
+ */
+class PathVariablesTest {
+
+    private final Function<ApiRequest, ApiResponse<?>> handler = req -> ApiResponse.ok("test");
+
+    @Test
+    void testBehavesLikeAMap() {
+        Map<String, String> variables = new PathVariables(new String[] {"userId", "postId"}, new String[] {"1", "2"});
+
+        assertEquals(2, variables.size());
+        assertFalse(variables.isEmpty());
+        assertEquals("1", variables.get("userId"));
+        assertEquals("2", variables.get("postId"));
+        assertNull(variables.get("missing"));
+        assertNull(variables.get(null));
+        assertEquals("x", variables.getOrDefault("missing", "x"));
+        assertTrue(variables.containsKey("postId"));
+        assertTrue(variables.containsValue("2"));
+        assertFalse(variables.containsValue("3"));
+        assertEquals(List.of("userId", "postId"), List.copyOf(variables.keySet()));
+    }
+
+    @Test
+    void testEqualsAndHashCodeMatchOtherMaps() {
+        Map<String, String> variables = new PathVariables(new String[] {"userId", "postId"}, new String[] {"1", "2"});
+        Map<String, String> expected = new HashMap<>(Map.of("postId", "2", "userId", "1"));
+
+        assertEquals(expected, variables);
+        assertEquals(variables, expected);
+        assertEquals(expected.hashCode(), variables.hashCode());
+        assertEquals("{userId=1, postId=2}", variables.toString());
+    }
+
+    @Test
+    void testRejectsEveryMutation() {
+        Map<String, String> variables = new PathVariables(new String[] {"id"}, new String[] {"1"});
+
+        assertThrows(UnsupportedOperationException.class, () -> variables.put("id", "2"));
+        assertThrows(UnsupportedOperationException.class, () -> variables.put("other", "2"));
+        assertThrows(UnsupportedOperationException.class, () -> variables.remove("id"));
+        assertThrows(UnsupportedOperationException.class, () -> variables.remove("missing"));
+        assertThrows(UnsupportedOperationException.class, () -> variables.putAll(Map.of("a", "b")));
+        assertThrows(UnsupportedOperationException.class, variables::clear);
+        assertThrows(UnsupportedOperationException.class, () -> variables.replaceAll((k, v) -> v + "!"));
+        assertThrows(UnsupportedOperationException.class, () -> variables.putIfAbsent("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> variables.computeIfAbsent("a", k -> "b"));
+        assertThrows(UnsupportedOperationException.class, () -> variables.merge("id", "2", String::concat));
+        assertThrows(UnsupportedOperationException.class,
+            () -> variables.entrySet().iterator().next().setValue("2"));
+
+        Iterator<String> keys = variables.keySet().iterator();
+        keys.next();
+        assertThrows(UnsupportedOperationException.class, keys::remove);
+
+        assertEquals(Map.of("id", "1"), variables);
+    }
+
+    @Test
+    void testRouteTreeReturnsImmutableVariables() {
+        RouteTree tree = new RouteTree();
+        tree.addRoute("/api/users/{userId}/posts/{postId}", HttpMethod.GET, handler);
+
+        Map<String, String> variables = tree.match("/api/users/1/posts/2", HttpMethod.GET).pathVariables();
+
+        assertEquals(Map.of("userId", "1", "postId", "2"), variables);
+        assertThrows(UnsupportedOperationException.class, () -> variables.put("userId", "evil"));
+    }
+
+    @Test
+    void testCacheHitSharesUnchangedVariables() {
+        RouteTree tree = new RouteTree();
+        tree.addRoute("/api/users/{id}", HttpMethod.GET, handler);
+
+        Map<String, String> first = tree.match("/api/users/42", HttpMethod.GET).pathVariables();
+        assertThrows(UnsupportedOperationException.class, () -> first.put("id", "evil"));
+        Map<String, String> second = tree.match("/api/users/42", HttpMethod.GET).pathVariables();
+
+        assertSame(first, second);
+        assertEquals(Map.of("id", "42"), second);
+    }
+
+    @Test
+    void testRepeatedVariableNameKeepsLastOccurrence() {
+        RouteTree tree = new RouteTree();
+        tree.addRoute("/api/{id}/items/{id}", HttpMethod.GET, handler);
+
+        assertEquals(Map.of("id", "2"), tree.match("/api/1/items/2", HttpMethod.GET).pathVariables());
+    }
+
+    @Test
+    void testRoutesSharingTrieNodesKeepTheirOwnVariables() {
+        RouteTree tree = new RouteTree();
+        tree.addRoute("/api/users/{id}", HttpMethod.GET, handler);
+        tree.addRoute("/api/users/{id}/posts/{postId}", HttpMethod.GET, handler);
+        tree.addRoute("/api/users/{id}/profile", HttpMethod.GET, handler);
+        RouteTree frozen = tree.freeze();
+
+        assertEquals(Map.of("id", "1"), frozen.match("/api/users/1", HttpMethod.GET).pathVariables());
+        assertEquals(Map.of("id", "1", "postId", "2"),
+            frozen.match("/api/users/1/posts/2", HttpMethod.GET).pathVariables());
+        assertEquals(Map.of("id", "1"), frozen.match("/api/users/1/profile", HttpMethod.GET).pathVariables());
+    }
+
+    @Test
+    void testRoutesWithoutVariablesReturnEmptyMap() {
+        RouteTree tree = new RouteTree();
+        tree.addRoute("/api/users", HttpMethod.GET, handler);
+
+        assertTrue(tree.match("/api/users", HttpMethod.GET).pathVariables().isEmpty());
+    }
+
+    @Test
+    void testCompiledRouterReturnsImmutableVariables() {
+        CompiledRouter router = new CompiledRouter();
+        for (int route = 0; route < CompiledRouter.ROUTE_COUNT; route++) {
+            router.register(route, handler);
+        }
+
+        Map<String, String> variables = router.match("/api/tasks/7", HttpMethod.GET).pathVariables();
+
+        assertEquals(Map.of("taskId", "7"), variables);
+        assertThrows(UnsupportedOperationException.class, () -> variables.put("taskId", "evil"));
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.api.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the concurrent CLOCK-evicting RouteCache.
+ */
+class RouteCacheTest {
+
+    @Test
+    void testGetReturnsStoredValue() {
+        RouteCache<String> cache = new RouteCache<>(10);
+        cache.put("GET:/a", "a");
+
+        assertEquals("a", cache.get("GET:/a"));
+        assertNull(cache.get("GET:/b"));
+    }
+
+    @Test
+    void testPutKeepsExistingEntry() {
+        RouteCache<String> cache = new RouteCache<>(10);
+        cache.put("GET:/a", "first");
+        cache.put("GET:/a", "second");
+
+        assertEquals("first", cache.get("GET:/a"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testSizeIsBoundedByCapacity() {
+        RouteCache<String> cache = new RouteCache<>(16);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("GET:/items/" + i, "item-" + i);
+        }
+
+        assertEquals(16, cache.size());
+        assertEquals(16, cache.capacity());
+    }
+
+    @Test
+    void testReferencedEntrySurvivesEviction() {
+        RouteCache<String> cache = new RouteCache<>(4);
+        for (int i = 0; i < 4; i++) {
+            cache.put("k" + i, "v" + i);
+        }
+
+        // Touch k0 so the clock hand gives it a second chance
+        assertEquals("v0", cache.get("k0"));
+        cache.put("k4", "v4");
+
+        assertEquals("v0", cache.get("k0"));
+        assertNull(cache.get("k1"));
+        assertEquals("v4", cache.get("k4"));
+    }
+
+    @Test
+    void testClear() {
+        RouteCache<String> cache = new RouteCache<>(4);
+        cache.put("a", "a");
+        cache.put("b", "b");
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+
+        cache.put("c", "c");
+        assertEquals("c", cache.get("c"));
+    }
+
+    @Test
+    void testRejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new RouteCache<String>(0));
+    }
+
+    @Test
+    void testCountsHitsMissesAndEvictions() {
+        RouteCache<String> cache = new RouteCache<>(2);
+        cache.get("a");
+        cache.put("a", "a");
+        cache.get("a");
+        cache.put("b", "b");
+        cache.put("c", "c");
+
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(1, cache.evictions());
+    }
+
+    @Test
+    void testAdmissionKeepsFrequentEntriesDuringScan() {
+        RouteCache<String> cache = new RouteCache<>(8, true);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 8; i++) {
+                String key = "hot" + i;
+                if (cache.get(key) == null) {
+                    cache.put(key, key);
+                }
+            }
+        }
+
+        // A scan of one-off keys interleaved with the hot traffic never beats a hot entry's frequency
+        for (int i = 0; i < 1000; i++) {
+            String key = "scan" + i;
+            if (cache.get(key) == null) {
+                cache.put(key, key);
+            }
+            cache.get("hot" + (i % 8));
+        }
+
+        for (int i = 0; i < 8; i++) {
+            assertEquals("hot" + i, cache.get("hot" + i));
+        }
+        assertEquals(0, cache.evictions());
+    }
+
+    @Test
+    void testAdmissionLetsNewlyFrequentEntryIn() {
+        RouteCache<String> cache = new RouteCache<>(4, true);
+        for (int i = 0; i < 4; i++) {
+            cache.get("k" + i);
+            cache.put("k" + i, "v" + i);
+        }
+
+        // Requested more often than any cached key, so it may evict one
+        for (int i = 0; i < 3; i++) {
+            cache.get("new");
+        }
+        cache.put("new", "new");
+
+        assertEquals("new", cache.get("new"));
+        assertEquals(4, cache.size());
+        assertEquals(1, cache.evictions());
+    }
+
+    @Test
+    void testWithoutAdmissionScanFlushesCache() {
+        RouteCache<String> cache = new RouteCache<>(8);
+        for (int i = 0; i < 8; i++) {
+            cache.put("hot" + i, "hot" + i);
+        }
+        for (int i = 0; i < 100; i++) {
+            cache.put("scan" + i, "scan" + i);
+        }
+
+        for (int i = 0; i < 8; i++) {
+            assertNull(cache.get("hot" + i));
+        }
+    }
+
+    @Test
+    void testConcurrentAccessStaysConsistentAndBounded() throws Exception {
+        RouteCache<String> cache = new RouteCache<>(64);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 20_000; i++) {
+                    String key = "GET:/items/" + ((i * 31 + offset) % 500);
+                    String value = cache.get(key);
+                    if (value == null) {
+                        cache.put(key, key);
+                    } else {
+                        assertEquals(key, value);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertTrue(cache.size() <= 64, "Cache grew past capacity: " + cache.size());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.api.routing;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the compact RouteNode layout: inline single child, sorted child arrays, hash index
+ * above the threshold, and lazily allocated handler tables.
+ */
+class RouteNodeTest {
+
+    private final Function<ApiRequest, ApiResponse<?>> handler = req -> ApiResponse.ok("test");
+
+    @Test
+    void testLeafHasNoChildrenOrHandlers() {
+        RouteNode node = new RouteNode("api");
+
+        assertEquals(0, node.getLiteralChildCount());
+        assertEquals(0, node.getLiteralSegments().length);
+        assertNull(node.getLiteralChild("users"));
+        assertFalse(node.hasAnyHandler());
+        assertTrue(node.getHandlers().isEmpty());
+        assertNull(node.getHandler(HttpMethod.GET));
+        assertNull(node.getHandlerPattern(HttpMethod.GET));
+    }
+
+    @Test
+    void testChildrenStayFindableAcrossEveryLayout() {
+        RouteNode node = new RouteNode("");
+        int count = RouteNode.LITERAL_INDEX_THRESHOLD * 3;
+        RouteNode[] children = new RouteNode[count];
+
+        // Added in descending order, so every insertion into the sorted arrays shifts
+        for (int i = count - 1; i >= 0; i--) {
+            children[i] = node.getOrAddLiteralChild(segment(i));
+            assertEquals(count - i, node.getLiteralChildCount());
+            for (int j = i; j < count; j++) {
+                assertSame(children[j], node.getLiteralChild(segment(j)), "after adding " + i);
+            }
+            assertNull(node.getLiteralChild("missing"));
+        }
+    }
+
+    @Test
+    void testGetOrAddReturnsExistingChild() {
+        RouteNode node = new RouteNode("");
+        for (int i = 0; i <= RouteNode.LITERAL_INDEX_THRESHOLD; i++) {
+            RouteNode child = node.getOrAddLiteralChild(segment(i));
+            assertSame(child, node.getOrAddLiteralChild(segment(i)));
+        }
+        assertEquals(RouteNode.LITERAL_INDEX_THRESHOLD + 1, node.getLiteralChildCount());
+    }
+
+    @Test
+    void testLiteralSegmentsAreSorted() {
+        RouteNode single = new RouteNode("");
+        single.getOrAddLiteralChild("users");
+        assertArrayEquals(new String[] {"users"}, single.getLiteralSegments());
+
+        RouteNode few = new RouteNode("");
+        few.getOrAddLiteralChild("users");
+        few.getOrAddLiteralChild("orders");
+        few.getOrAddLiteralChild("tasks");
+        assertArrayEquals(new String[] {"orders", "tasks", "users"}, few.getLiteralSegments());
+
+        RouteNode many = new RouteNode("");
+        for (int i = RouteNode.LITERAL_INDEX_THRESHOLD * 2; i >= 0; i--) {
+            many.getOrAddLiteralChild(segment(i));
+        }
+        String[] segments = many.getLiteralSegments();
+        assertEquals(RouteNode.LITERAL_INDEX_THRESHOLD * 2 + 1, segments.length);
+        for (int i = 1; i < segments.length; i++) {
+            assertTrue(segments[i - 1].compareTo(segments[i]) < 0);
+        }
+    }
+
+    @Test
+    void testHandlersAreAllocatedOnFirstAdd() {
+        RouteNode node = new RouteNode("{id}", "id");
+
+        node.addHandler(HttpMethod.GET, handler, "/api/users/{id}");
+        node.addHandler(HttpMethod.DELETE, handler, "/api/users/{userId}");
+
+        assertTrue(node.hasAnyHandler());
+        assertEquals(Map.of(HttpMethod.GET, handler, HttpMethod.DELETE, handler), node.getHandlers());
+        assertEquals("/api/users/{userId}", node.getHandlerPattern(HttpMethod.DELETE));
+        assertNull(node.getHandler(HttpMethod.POST));
+    }
+
+    @Test
+    void testRouteTreeMatchesManySiblings() {
+        RouteTree tree = new RouteTree();
+        int resources = RouteNode.LITERAL_INDEX_THRESHOLD * 10;
+        for (int i = 0; i < resources; i++) {
+            tree.addRoute("/api/resource" + i + "/{id}", HttpMethod.GET, handler);
+        }
+        RouteTree frozen = tree.freeze();
+
+        for (int i = 0; i < resources; i++) {
+            RouteTree.MatchResult result = frozen.match("/api/resource" + i + "/7", HttpMethod.GET);
+            assertNotNull(result, "resource" + i);
+            assertEquals("/api/resource" + i + "/{id}", result.pattern());
+        }
+        assertNull(frozen.match("/api/resource" + resources + "/7", HttpMethod.GET));
+        assertNull(frozen.match("/api/resource/7", HttpMethod.GET));
+        assertFalse(frozen.hasPath("/api/other/7"));
+    }
+
+    private static String segment(int i) {
+        return String.format("segment%03d", i);
+    }
+}
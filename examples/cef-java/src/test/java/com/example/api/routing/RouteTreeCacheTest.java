@@ -6,14 +6,21 @@ import com.example.api.protocol.HttpMethod;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Tests for RouteTree LRU cache behavior.
- * Cache size limit: 100 entries
- * Cache key format: "METHOD:path"
+ * Tests for RouteTree match cache behavior.
+ * Cache size limit: 100 entries by default (CLOCK eviction, approximate LRU), configurable with setCache
+ * One cache per HTTP method, keyed by path
  * Only pattern routes are cached (not exact/simple routes)
  */
 class RouteTreeCacheTest {
@@ -205,4 +212,126 @@ class RouteTreeCacheTest {
         assertEquals(noCacheResult.handler(), cachedResult.handler());
         assertEquals(noCacheResult.pathVariables(), cachedResult.pathVariables());
     }
+
+    @Test
+    void testConcurrentMatchingReturnsCorrectVariables() throws Exception {
+        routeTree.addRoute("/api/items/{id}", HttpMethod.GET, testHandler);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 10_000; i++) {
+                    String id = String.valueOf((i + offset) % 300);
+                    RouteTree.MatchResult result = routeTree.match("/api/items/" + id, HttpMethod.GET);
+                    assertNotNull(result);
+                    assertEquals(id, result.pathVariables().get("id"));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void testCacheStatsCountHitsAndMisses() {
+        routeTree.addRoute("/api/users/{id}", HttpMethod.GET, testHandler);
+
+        routeTree.match("/api/users/1", HttpMethod.GET);
+        routeTree.match("/api/users/1", HttpMethod.GET);
+        routeTree.match("/api/users/2", HttpMethod.GET);
+
+        RouteTree.CacheStats stats = routeTree.cacheStats();
+        assertEquals(RouteTree.CachePolicy.LRU, stats.policy());
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.size());
+        assertEquals(100, stats.capacity());
+        assertEquals(1.0 / 3, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void testCacheSizeIsConfigurable() {
+        routeTree.setCache(RouteTree.CachePolicy.LRU, 10);
+        routeTree.addRoute("/api/items/{id}", HttpMethod.GET, testHandler);
+
+        for (int i = 0; i < 50; i++) {
+            routeTree.match("/api/items/" + i, HttpMethod.GET);
+        }
+
+        RouteTree.CacheStats stats = routeTree.cacheStats();
+        assertEquals(10, stats.capacity());
+        assertEquals(10, stats.size());
+        assertEquals(40, stats.evictions());
+    }
+
+    @Test
+    void testNoCachePolicyStillMatches() {
+        routeTree.setCache(RouteTree.CachePolicy.NONE, 0);
+        routeTree.addRoute("/api/items/{id}", HttpMethod.GET, testHandler);
+
+        RouteTree.MatchResult first = routeTree.match("/api/items/7", HttpMethod.GET);
+        RouteTree.MatchResult second = routeTree.match("/api/items/7", HttpMethod.GET);
+
+        assertNotNull(first);
+        assertEquals("7", second.pathVariables().get("id"));
+        RouteTree.CacheStats stats = routeTree.cacheStats();
+        assertEquals(RouteTree.CachePolicy.NONE, stats.policy());
+        assertEquals(0, stats.hits());
+        assertEquals(0, stats.misses());
+        assertEquals(0, stats.capacity());
+    }
+
+    @Test
+    void testTinyLfuKeepsHotPathsDuringScan() {
+        routeTree.setCache(RouteTree.CachePolicy.TINY_LFU, 20);
+        routeTree.addRoute("/api/tasks/{taskId}", HttpMethod.GET, testHandler);
+
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 20; i++) {
+                routeTree.match("/api/tasks/hot-" + i, HttpMethod.GET);
+            }
+        }
+        // Scan of unique task IDs interleaved with the hot traffic
+        for (int i = 0; i < 5_000; i++) {
+            routeTree.match("/api/tasks/" + i, HttpMethod.GET);
+            routeTree.match("/api/tasks/hot-" + (i % 20), HttpMethod.GET);
+        }
+
+        long hitsBefore = routeTree.cacheStats().hits();
+        for (int i = 0; i < 20; i++) {
+            routeTree.match("/api/tasks/hot-" + i, HttpMethod.GET);
+        }
+        assertEquals(20, routeTree.cacheStats().hits() - hitsBefore);
+    }
+
+    @Test
+    void testFrozenTreeKeepsCacheConfiguration() {
+        routeTree.setCache(RouteTree.CachePolicy.TINY_LFU, 42);
+        routeTree.addRoute("/api/items/{id}", HttpMethod.GET, testHandler);
+
+        RouteTree frozen = routeTree.freeze();
+        frozen.match("/api/items/1", HttpMethod.GET);
+
+        RouteTree.CacheStats stats = frozen.cacheStats();
+        assertEquals(RouteTree.CachePolicy.TINY_LFU, stats.policy());
+        assertEquals(42, stats.capacity());
+        assertEquals(1, stats.misses());
+        assertThrows(IllegalStateException.class, () -> frozen.setCache(RouteTree.CachePolicy.NONE, 0));
+    }
+
+    @Test
+    void testRejectsNonPositiveCacheSize() {
+        assertThrows(IllegalArgumentException.class, () -> routeTree.setCache(RouteTree.CachePolicy.LRU, 0));
+    }
 }
@@ -0,0 +1,146 @@
+package com.example.api.routing;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for freezing a RouteTree into its compiled, read-only form.
+ */
+class RouteTreeFreezeTest {
+
+    private RouteTree routeTree;
+    private Function<ApiRequest, ApiResponse<?>> userHandler;
+    private Function<ApiRequest, ApiResponse<?>> adminHandler;
+    private Function<ApiRequest, ApiResponse<?>> commentHandler;
+    private Function<ApiRequest, ApiResponse<?>> healthHandler;
+    private Function<ApiRequest, ApiResponse<?>> staticHandler;
+    private Function<ApiRequest, ApiResponse<?>> fallbackHandler;
+
+    @BeforeEach
+    void setUp() {
+        routeTree = new RouteTree();
+        userHandler = req -> ApiResponse.ok("user");
+        adminHandler = req -> ApiResponse.ok("admin");
+        commentHandler = req -> ApiResponse.ok("comment");
+        healthHandler = req -> ApiResponse.ok("health");
+        staticHandler = req -> ApiResponse.ok("static");
+        fallbackHandler = req -> ApiResponse.ok("fallback");
+
+        routeTree.addRoute("/api/users/{id}", HttpMethod.GET, userHandler);
+        routeTree.addRoute("/api/users/{userId}", HttpMethod.DELETE, userHandler);
+        routeTree.addRoute("/api/users/admin", HttpMethod.GET, adminHandler);
+        routeTree.addRoute("/api/users/{userId}/posts/{postId}/comments", HttpMethod.POST, commentHandler);
+        routeTree.addRoute("/api/users/admin/settings", HttpMethod.GET, adminHandler);
+        routeTree.addExactRoute("/health", HttpMethod.GET, healthHandler);
+        routeTree.addPrefixRoute("/static/", HttpMethod.GET, staticHandler);
+        routeTree.setFallback(HttpMethod.GET, fallbackHandler);
+    }
+
+    @Test
+    void testFrozenTreeMatchesPatternRoutes() {
+        RouteTree frozen = routeTree.freeze();
+
+        RouteTree.MatchResult result = frozen.match("/api/users/42", HttpMethod.GET);
+        assertNotNull(result);
+        assertSame(userHandler, result.handler());
+        assertEquals(Map.of("id", "42"), result.pathVariables());
+        assertEquals("/api/users/{id}", result.pattern());
+    }
+
+    @Test
+    void testFrozenTreeKeepsPerMethodPatterns() {
+        RouteTree frozen = routeTree.freeze();
+
+        RouteTree.MatchResult get = frozen.match("/api/users/42", HttpMethod.GET);
+        RouteTree.MatchResult delete = frozen.match("/api/users/42", HttpMethod.DELETE);
+        assertEquals("/api/users/{id}", get.pattern());
+        assertEquals("/api/users/{userId}", delete.pattern());
+    }
+
+    @Test
+    void testFrozenTreePrefersLiteralAndBacktracks() {
+        RouteTree frozen = routeTree.freeze();
+
+        assertSame(adminHandler, frozen.match("/api/users/admin", HttpMethod.GET).handler());
+
+        // "admin" literal branch has no posts/comments child, so matching falls back to the template;
+        // the shared template node keeps the variable name it was first registered with
+        RouteTree.MatchResult result = frozen.match("/api/users/admin/posts/7/comments", HttpMethod.POST);
+        assertNotNull(result);
+        assertSame(commentHandler, result.handler());
+        assertEquals(Map.of("id", "admin", "postId", "7"), result.pathVariables());
+        assertEquals("/api/users/{userId}/posts/{postId}/comments", result.pattern());
+    }
+
+    @Test
+    void testFrozenTreeMatchesSimpleAndCatchAllRoutes() {
+        RouteTree frozen = routeTree.freeze();
+
+        assertSame(healthHandler, frozen.matchStrict("/health", HttpMethod.GET).handler());
+        assertSame(staticHandler, frozen.match("/static/app.js", HttpMethod.GET).handler());
+        assertSame(fallbackHandler, frozen.match("/unknown", HttpMethod.GET).handler());
+        assertNull(frozen.match("/unknown", HttpMethod.POST));
+    }
+
+    @Test
+    void testFrozenTreeHasPath() {
+        RouteTree frozen = routeTree.freeze();
+
+        assertTrue(frozen.hasPath("/api/users/42"));
+        assertTrue(frozen.hasPath("/api/users/admin"));
+        assertTrue(frozen.hasPath("/health"));
+        assertFalse(frozen.hasPath("/api/users"));
+        assertFalse(frozen.hasPath("/static/app.js"));
+    }
+
+    @Test
+    void testFrozenTreeRejectsNewRoutes() {
+        RouteTree frozen = routeTree.freeze();
+
+        assertTrue(frozen.isFrozen());
+        assertFalse(routeTree.isFrozen());
+        assertSame(frozen, frozen.freeze());
+        assertThrows(IllegalStateException.class,
+            () -> frozen.addRoute("/api/items/{id}", HttpMethod.GET, userHandler));
+        assertThrows(IllegalStateException.class,
+            () -> frozen.addExactRoute("/ready", HttpMethod.GET, healthHandler));
+        assertThrows(IllegalStateException.class,
+            () -> frozen.addPrefixRoute("/assets/", HttpMethod.GET, staticHandler));
+        assertThrows(IllegalStateException.class,
+            () -> frozen.addContainsRoute(".min.", HttpMethod.GET, staticHandler));
+        assertThrows(IllegalStateException.class,
+            () -> frozen.setFallback(HttpMethod.POST, fallbackHandler));
+    }
+
+    @Test
+    void testSourceTreeStaysMutableAndIndependent() {
+        RouteTree frozen = routeTree.freeze();
+
+        routeTree.addRoute("/api/items/{id}", HttpMethod.GET, userHandler);
+        routeTree.addPrefixRoute("/assets/", HttpMethod.POST, staticHandler);
+
+        assertNotNull(routeTree.match("/api/items/1", HttpMethod.GET));
+        assertNotNull(routeTree.match("/assets/logo.png", HttpMethod.POST));
+        assertFalse(frozen.hasPath("/api/items/1"));
+        assertNull(frozen.match("/assets/logo.png", HttpMethod.POST));
+    }
+
+    @Test
+    void testRouteAddedAfterMatchIsVisible() {
+        assertSame(userHandler, routeTree.match("/api/users/me", HttpMethod.GET).handler());
+
+        Function<ApiRequest, ApiResponse<?>> meHandler = req -> ApiResponse.ok("me");
+        routeTree.addRoute("/api/users/me", HttpMethod.GET, meHandler);
+
+        // Both the compiled table and the cached match must be dropped
+        assertSame(meHandler, routeTree.match("/api/users/me", HttpMethod.GET).handler());
+    }
+}
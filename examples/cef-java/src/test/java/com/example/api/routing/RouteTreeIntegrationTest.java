@@ -12,6 +12,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.*;
@@ -244,6 +245,80 @@ class RouteTreeIntegrationTest {
             assertThat(routeTree.match("/api/v1/users", HttpMethod.GET)).isNotNull();
             assertThat(routeTree.match("/api/v1/tasks", HttpMethod.GET)).isNotNull();
         }
+
+        @Test
+        @DisplayName("Should pick the longest matching prefix regardless of registration order")
+        void testLongestPrefixWins() {
+            Function<ApiRequest, ApiResponse<?>> staticHandler = req -> ApiResponse.ok("static");
+            Function<ApiRequest, ApiResponse<?>> imageHandler = req -> ApiResponse.ok("img");
+            Function<ApiRequest, ApiResponse<?>> iconHandler = req -> ApiResponse.ok("icons");
+            routeTree.addPrefixRoute("/static/img/icons", HttpMethod.GET, iconHandler);
+            routeTree.addPrefixRoute("/static", HttpMethod.GET, staticHandler);
+            routeTree.addPrefixRoute("/static/img", HttpMethod.GET, imageHandler);
+
+            assertThat(routeTree.match("/static/img/logo.png", HttpMethod.GET).handler()).isSameAs(imageHandler);
+            assertThat(routeTree.match("/static/img/logo.png", HttpMethod.GET).pattern()).isEqualTo("/static/img");
+            assertThat(routeTree.match("/static/img/icons/a.svg", HttpMethod.GET).handler()).isSameAs(iconHandler);
+            assertThat(routeTree.match("/static/im", HttpMethod.GET).handler()).isSameAs(staticHandler);
+            assertThat(routeTree.match("/static/css/app.css", HttpMethod.GET).handler()).isSameAs(staticHandler);
+            assertThat(routeTree.match("/stat", HttpMethod.GET)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should fall back to a shorter prefix when the longer one lacks the method")
+        void testShorterPrefixHandlesOtherMethod() {
+            Function<ApiRequest, ApiResponse<?>> getHandler = req -> ApiResponse.ok("get");
+            Function<ApiRequest, ApiResponse<?>> postHandler = req -> ApiResponse.ok("post");
+            routeTree.addPrefixRoute("/files/", HttpMethod.POST, postHandler);
+            routeTree.addPrefixRoute("/files/public/", HttpMethod.GET, getHandler);
+
+            assertThat(routeTree.match("/files/public/a.txt", HttpMethod.GET).handler()).isSameAs(getHandler);
+            assertThat(routeTree.match("/files/public/a.txt", HttpMethod.POST).handler()).isSameAs(postHandler);
+            assertThat(routeTree.match("/files/private/a.txt", HttpMethod.GET)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should match prefixes sharing characters but diverging mid-segment")
+        void testDivergingPrefixes() {
+            Function<ApiRequest, ApiResponse<?>> assetsHandler = req -> ApiResponse.ok("assets");
+            Function<ApiRequest, ApiResponse<?>> apiHandler = req -> ApiResponse.ok("api");
+            Function<ApiRequest, ApiResponse<?>> appHandler = req -> ApiResponse.ok("app");
+            routeTree.addPrefixRoute("/assets", HttpMethod.GET, assetsHandler);
+            routeTree.addPrefixRoute("/api", HttpMethod.GET, apiHandler);
+            routeTree.addPrefixRoute("/app", HttpMethod.GET, appHandler);
+
+            assertThat(routeTree.match("/assets/x", HttpMethod.GET).handler()).isSameAs(assetsHandler);
+            assertThat(routeTree.match("/api/x", HttpMethod.GET).handler()).isSameAs(apiHandler);
+            assertThat(routeTree.match("/application", HttpMethod.GET).handler()).isSameAs(appHandler);
+            assertThat(routeTree.match("/ap", HttpMethod.GET)).isNull();
+            assertThat(routeTree.match("/a", HttpMethod.GET)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should match an empty prefix as catch-all of last resort")
+        void testEmptyPrefix() {
+            Function<ApiRequest, ApiResponse<?>> rootHandler = req -> ApiResponse.ok("root");
+            Function<ApiRequest, ApiResponse<?>> staticHandler = req -> ApiResponse.ok("static");
+            routeTree.addPrefixRoute("", HttpMethod.GET, rootHandler);
+            routeTree.addPrefixRoute("/static", HttpMethod.GET, staticHandler);
+
+            assertThat(routeTree.match("/static/a", HttpMethod.GET).handler()).isSameAs(staticHandler);
+            assertThat(routeTree.match("/other", HttpMethod.GET).handler()).isSameAs(rootHandler);
+        }
+
+        @Test
+        @DisplayName("Should see prefixes added after the first match")
+        void testPrefixAddedAfterMatch() {
+            Function<ApiRequest, ApiResponse<?>> staticHandler = req -> ApiResponse.ok("static");
+            Function<ApiRequest, ApiResponse<?>> imageHandler = req -> ApiResponse.ok("img");
+            routeTree.addPrefixRoute("/static", HttpMethod.GET, staticHandler);
+            assertThat(routeTree.match("/static/img/a.png", HttpMethod.GET).handler()).isSameAs(staticHandler);
+
+            routeTree.addPrefixRoute("/static/img", HttpMethod.GET, imageHandler);
+
+            assertThat(routeTree.match("/static/img/a.png", HttpMethod.GET).handler()).isSameAs(imageHandler);
+            assertThat(routeTree.freeze().match("/static/img/a.png", HttpMethod.GET).handler()).isSameAs(imageHandler);
+        }
     }
 
     @Nested
@@ -283,6 +358,102 @@ class RouteTreeIntegrationTest {
             assertThat(routeTree.match("/users/admin/edit", HttpMethod.GET)).isNotNull();
             assertThat(routeTree.match("/panel-admin", HttpMethod.GET)).isNotNull();
         }
+
+        @Test
+        @DisplayName("Should pick the longest substring when several occur")
+        void testLongestSubstringWins() {
+            Function<ApiRequest, ApiResponse<?>> adminHandler = req -> ApiResponse.ok("admin");
+            Function<ApiRequest, ApiResponse<?>> assetsHandler = req -> ApiResponse.ok("admin assets");
+            Function<ApiRequest, ApiResponse<?>> jsHandler = req -> ApiResponse.ok("js");
+            routeTree.addContainsRoute(".js", HttpMethod.GET, jsHandler);
+            routeTree.addContainsRoute("/admin/", HttpMethod.GET, adminHandler);
+            routeTree.addContainsRoute("/admin/assets/", HttpMethod.GET, assetsHandler);
+
+            assertThat(routeTree.match("/x/admin/assets/app.js", HttpMethod.GET).handler()).isSameAs(assetsHandler);
+            assertThat(routeTree.match("/x/admin/users.js", HttpMethod.GET).handler()).isSameAs(adminHandler);
+            assertThat(routeTree.match("/x/app.js", HttpMethod.GET).handler()).isSameAs(jsHandler);
+            assertThat(routeTree.match("/x/admin/assets/app.js", HttpMethod.GET).pattern()).isEqualTo("/admin/assets/");
+        }
+
+        @Test
+        @DisplayName("Should pick the leftmost of equally long substrings")
+        void testLeftmostSubstringWinsTie() {
+            Function<ApiRequest, ApiResponse<?>> minHandler = req -> ApiResponse.ok("min");
+            Function<ApiRequest, ApiResponse<?>> devHandler = req -> ApiResponse.ok("dev");
+            routeTree.addContainsRoute(".min.", HttpMethod.GET, minHandler);
+            routeTree.addContainsRoute(".dev.", HttpMethod.GET, devHandler);
+
+            assertThat(routeTree.match("/app.min.dev.js", HttpMethod.GET).handler()).isSameAs(minHandler);
+            assertThat(routeTree.match("/app.dev.min.js", HttpMethod.GET).handler()).isSameAs(devHandler);
+        }
+
+        @Test
+        @DisplayName("Should find substrings that overlap or end inside another")
+        void testOverlappingSubstrings() {
+            Function<ApiRequest, ApiResponse<?>> longHandler = req -> ApiResponse.ok("abcd");
+            Function<ApiRequest, ApiResponse<?>> innerHandler = req -> ApiResponse.ok("bc");
+            Function<ApiRequest, ApiResponse<?>> suffixHandler = req -> ApiResponse.ok("cde");
+            routeTree.addContainsRoute("abcd", HttpMethod.GET, longHandler);
+            routeTree.addContainsRoute("bc", HttpMethod.POST, innerHandler);
+            routeTree.addContainsRoute("cde", HttpMethod.POST, suffixHandler);
+
+            // "abcx" leaves the abcd branch; bc must still be found through the failure link
+            assertThat(routeTree.match("/abcx", HttpMethod.POST).handler()).isSameAs(innerHandler);
+            assertThat(routeTree.match("/abcde", HttpMethod.POST).handler()).isSameAs(suffixHandler);
+            assertThat(routeTree.match("/abcde", HttpMethod.GET).handler()).isSameAs(longHandler);
+            assertThat(routeTree.match("/abx", HttpMethod.GET)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should skip substrings without a handler for the method")
+        void testSubstringWithoutMethodIsSkipped() {
+            Function<ApiRequest, ApiResponse<?>> getHandler = req -> ApiResponse.ok("get");
+            Function<ApiRequest, ApiResponse<?>> postHandler = req -> ApiResponse.ok("post");
+            routeTree.addContainsRoute("/upload/", HttpMethod.POST, postHandler);
+            routeTree.addContainsRoute("/up", HttpMethod.GET, getHandler);
+
+            assertThat(routeTree.match("/files/upload/a", HttpMethod.GET).handler()).isSameAs(getHandler);
+            assertThat(routeTree.match("/files/upload/a", HttpMethod.POST).handler()).isSameAs(postHandler);
+            assertThat(routeTree.match("/files/upload/a", HttpMethod.PUT)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should agree with a contains() scan on the longest-then-leftmost rule")
+        void testMatchesReferenceScan() {
+            String[] substrings = {"a", "ab", "bab", "abba", "ba", "bb", "aab", "b/a"};
+            Map<String, Function<ApiRequest, ApiResponse<?>>> handlers = new HashMap<>();
+            for (String substring : substrings) {
+                Function<ApiRequest, ApiResponse<?>> handler = req -> ApiResponse.ok(substring);
+                handlers.put(substring, handler);
+                routeTree.addContainsRoute(substring, HttpMethod.GET, handler);
+            }
+
+            Random random = new Random(42);
+            for (int i = 0; i < 500; i++) {
+                StringBuilder path = new StringBuilder("/");
+                int length = random.nextInt(12);
+                for (int j = 0; j < length; j++) {
+                    path.append("ab/".charAt(random.nextInt(3)));
+                }
+
+                String expected = null;
+                for (String substring : substrings) {
+                    int index = path.indexOf(substring);
+                    if (index >= 0 && (expected == null || substring.length() > expected.length()
+                        || (substring.length() == expected.length() && index < path.indexOf(expected)))) {
+                        expected = substring;
+                    }
+                }
+
+                RouteTree.MatchResult result = routeTree.match(path.toString(), HttpMethod.GET);
+                if (expected == null) {
+                    assertThat(result).isNull();
+                } else {
+                    assertThat(result.pattern()).isEqualTo(expected);
+                    assertThat(result.handler()).isSameAs(handlers.get(expected));
+                }
+            }
+        }
     }
 
     @Nested
@@ -394,6 +565,8 @@ class RouteTreeIntegrationTest {
 
             assertThat(result).isNotNull();
             assertThat(result.handler()).isEqualTo(fallbackHandler);
+            assertThat(result.isFallback()).isTrue();
+            assertThat(result.pattern()).isEqualTo("/api/unknown");
         }
 
         @Test
@@ -409,6 +582,7 @@ class RouteTreeIntegrationTest {
 
             assertThat(result).isNotNull();
             assertThat(result.handler()).isEqualTo(routeHandler);
+            assertThat(result.isFallback()).isFalse();
         }
     }
 
@@ -730,4 +904,163 @@ class RouteTreeIntegrationTest {
             assertThat(result.pattern()).isEqualTo("/api/health");
         }
     }
+
+    @Nested
+    @DisplayName("Single-Pass Route Decisions")
+    class RouteDecisions {
+
+        @Test
+        @DisplayName("route() should report a strict match with its path variables")
+        void testMatchedDecision() {
+            routeTree.addRoute("/api/users/{id}", HttpMethod.GET, req -> ApiResponse.ok("ok"));
+
+            RouteDecision decision = routeTree.route("/api/users/42", HttpMethod.GET);
+
+            assertThat(decision.outcome()).isEqualTo(RouteDecision.Outcome.MATCHED);
+            assertThat(decision.isHandled()).isTrue();
+            assertThat(decision.match().pathVariables()).containsEntry("id", "42");
+            assertThat(decision.allowedMethods()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("route() should list the allowed methods when the method does not match")
+        void testMethodNotAllowedDecision() {
+            routeTree.addRoute("/api/users/{id}", HttpMethod.GET, req -> ApiResponse.ok("get"));
+            routeTree.addRoute("/api/users/{id}", HttpMethod.PUT, req -> ApiResponse.ok("put"));
+            routeTree.addExactRoute("/api/users/me", HttpMethod.PATCH, req -> ApiResponse.ok("patch"));
+
+            RouteDecision decision = routeTree.route("/api/users/me", HttpMethod.DELETE);
+
+            assertThat(decision.outcome()).isEqualTo(RouteDecision.Outcome.METHOD_NOT_ALLOWED);
+            assertThat(decision.isHandled()).isTrue();
+            assertThat(decision.match()).isNull();
+            assertThat(decision.allowedMethods()).containsExactly(HttpMethod.GET, HttpMethod.PUT, HttpMethod.PATCH);
+            assertThat(decision.allowHeader()).isEqualTo("GET, PUT, PATCH");
+        }
+
+        @Test
+        @DisplayName("route() should not let a fallback swallow a method mismatch on a known path")
+        void testMethodNotAllowedWinsOverFallback() {
+            routeTree.addRoute("/api/notify", HttpMethod.POST, req -> ApiResponse.ok("post"));
+            routeTree.setFallback(HttpMethod.GET, req -> ApiResponse.ok("static"));
+
+            assertThat(routeTree.route("/api/notify", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.METHOD_NOT_ALLOWED);
+            assertThat(routeTree.route("/index.html", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.FALLBACK);
+        }
+
+        @Test
+        @DisplayName("route() should report prefix and contains matches as fallback outcomes")
+        void testCatchAllDecisions() {
+            routeTree.addPrefixRoute("/static/", HttpMethod.GET, req -> ApiResponse.ok("prefix"));
+            routeTree.addContainsRoute(".min.", HttpMethod.GET, req -> ApiResponse.ok("contains"));
+
+            RouteDecision prefix = routeTree.route("/static/app.js", HttpMethod.GET);
+            RouteDecision contains = routeTree.route("/js/app.min.js", HttpMethod.GET);
+
+            assertThat(prefix.outcome()).isEqualTo(RouteDecision.Outcome.FALLBACK);
+            assertThat(prefix.match().pattern()).isEqualTo("/static/");
+            assertThat(contains.outcome()).isEqualTo(RouteDecision.Outcome.FALLBACK);
+            assertThat(contains.match().pattern()).isEqualTo(".min.");
+        }
+
+        @Test
+        @DisplayName("route() should report no route for unknown paths")
+        void testNoRouteDecision() {
+            routeTree.addRoute("/api/users/{id}", HttpMethod.GET, req -> ApiResponse.ok("ok"));
+
+            RouteDecision decision = routeTree.route("/api/unknown", HttpMethod.GET);
+
+            assertThat(decision.outcome()).isEqualTo(RouteDecision.Outcome.NO_ROUTE);
+            assertThat(decision.isHandled()).isFalse();
+            assertThat(decision.match()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Unmatched Path Rejection")
+    class UnmatchedPathRejection {
+
+        @Test
+        @DisplayName("Paths under an unknown first segment should be rejected")
+        void testUnknownFirstSegmentRejected() {
+            routeTree.addRoute("/api/users/{id}", HttpMethod.GET, req -> ApiResponse.ok("user"));
+            routeTree.addPrefixRoute("/static/", HttpMethod.GET, req -> ApiResponse.ok("static"));
+
+            assertThat(routeTree.route("/images/logo.png", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.NO_ROUTE);
+            assertThat(routeTree.route("/api/users/1", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.MATCHED);
+            assertThat(routeTree.route("/static/app.js", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.FALLBACK);
+        }
+
+        @Test
+        @DisplayName("A route added later should match a path that was unmatched before")
+        void testAddRouteInvalidatesUnmatchedPaths() {
+            routeTree.addRoute("/api/users/{id}", HttpMethod.GET, req -> ApiResponse.ok("user"));
+            assertThat(routeTree.route("/api/tasks/1", HttpMethod.GET).isHandled()).isFalse();
+            assertThat(routeTree.route("/fonts/a.woff", HttpMethod.GET).isHandled()).isFalse();
+
+            routeTree.addRoute("/api/tasks/{id}", HttpMethod.GET, req -> ApiResponse.ok("task"));
+            routeTree.addPrefixRoute("/fonts/", HttpMethod.GET, req -> ApiResponse.ok("font"));
+
+            assertThat(routeTree.route("/api/tasks/1", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.MATCHED);
+            assertThat(routeTree.route("/fonts/a.woff", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.FALLBACK);
+        }
+
+        @Test
+        @DisplayName("A fallback set later should handle a path that was unmatched before")
+        void testSetFallbackInvalidatesUnmatchedPaths() {
+            routeTree.addRoute("/api/users/{id}", HttpMethod.GET, req -> ApiResponse.ok("user"));
+            assertThat(routeTree.route("/api/other", HttpMethod.GET).isHandled()).isFalse();
+            assertThat(routeTree.route("/index.html", HttpMethod.GET).isHandled()).isFalse();
+
+            routeTree.setFallback(HttpMethod.GET, req -> ApiResponse.ok("fallback"));
+
+            assertThat(routeTree.route("/api/other", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.FALLBACK);
+            assertThat(routeTree.route("/index.html", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.FALLBACK);
+        }
+
+        @Test
+        @DisplayName("Routes that do not fix their first segment should disable the first-segment filter")
+        void testOpenFirstSegmentRoutesStillMatch() {
+            routeTree.addRoute("/{tenant}/dashboard", HttpMethod.GET, req -> ApiResponse.ok("tenant"));
+            routeTree.addPrefixRoute("/sta", HttpMethod.GET, req -> ApiResponse.ok("sta"));
+
+            assertThat(routeTree.route("/acme/dashboard", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.MATCHED);
+            assertThat(routeTree.route("/stats/today", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.FALLBACK);
+        }
+
+        @Test
+        @DisplayName("Contains routes should match under any first segment")
+        void testContainsRouteMatchesUnderAnyFirstSegment() {
+            routeTree.addRoute("/api/users/{id}", HttpMethod.GET, req -> ApiResponse.ok("user"));
+            routeTree.addContainsRoute(".min.", HttpMethod.GET, req -> ApiResponse.ok("minified"));
+
+            assertThat(routeTree.route("/vendor/lib.min.js", HttpMethod.GET).outcome())
+                .isEqualTo(RouteDecision.Outcome.FALLBACK);
+        }
+
+        @Test
+        @DisplayName("Repeated unmatched requests should keep returning no route on a frozen tree")
+        void testRepeatedMissesOnFrozenTree() {
+            routeTree.addExactRoute("/health", HttpMethod.GET, req -> ApiResponse.ok("up"));
+            RouteTree frozen = routeTree.freeze();
+
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(frozen.route("/health/" + (i % 300), HttpMethod.GET).isHandled()).isFalse();
+            }
+            assertThat(frozen.route("/health", HttpMethod.GET).outcome()).isEqualTo(RouteDecision.Outcome.MATCHED);
+            assertThat(frozen.route("/health", HttpMethod.POST).outcome())
+                .isEqualTo(RouteDecision.Outcome.METHOD_NOT_ALLOWED);
+        }
+    }
 }
@@ -0,0 +1,217 @@
+package com.example.api.routing;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for copy-on-write route registration and removal on a live RouteTree,
+ * including a stress test of registration churn alongside matching.
+ */
+class RouteTreeRuntimeRegistrationTest {
+
+    private RouteTree routeTree;
+    private Function<ApiRequest, ApiResponse<?>> stableHandler;
+
+    @BeforeEach
+    void setUp() {
+        routeTree = new RouteTree();
+        stableHandler = request -> ApiResponse.ok("stable");
+    }
+
+    @Test
+    void testRemoveRoute() {
+        routeTree.addRoute("/api/plugins/{id}", HttpMethod.GET, stableHandler);
+        routeTree.addRoute("/api/plugins/{id}", HttpMethod.DELETE, stableHandler);
+        assertNotNull(routeTree.match("/api/plugins/1", HttpMethod.GET));
+
+        assertTrue(routeTree.removeRoute("/api/plugins/{id}", HttpMethod.GET));
+
+        assertNull(routeTree.match("/api/plugins/1", HttpMethod.GET));
+        assertNotNull(routeTree.match("/api/plugins/1", HttpMethod.DELETE));
+        assertFalse(routeTree.removeRoute("/api/plugins/{id}", HttpMethod.GET));
+    }
+
+    @Test
+    void testRemoveRouteWithoutVariables() {
+        routeTree.addRoute("/api/status", HttpMethod.GET, stableHandler);
+
+        assertTrue(routeTree.removeRoute("/api/status", HttpMethod.GET));
+        assertNull(routeTree.match("/api/status", HttpMethod.GET));
+        assertFalse(routeTree.hasPath("/api/status"));
+    }
+
+    @Test
+    void testRemoveOtherRouteKinds() {
+        routeTree.addExactRoute("/health", HttpMethod.GET, stableHandler);
+        routeTree.addPrefixRoute("/static/", HttpMethod.GET, stableHandler);
+        routeTree.addContainsRoute(".min.", HttpMethod.GET, stableHandler);
+
+        assertTrue(routeTree.removeExactRoute("/health", HttpMethod.GET));
+        assertTrue(routeTree.removePrefixRoute("/static/", HttpMethod.GET));
+        assertTrue(routeTree.removeContainsRoute(".min.", HttpMethod.GET));
+
+        assertNull(routeTree.match("/health", HttpMethod.GET));
+        assertNull(routeTree.match("/static/app.css", HttpMethod.GET));
+        assertNull(routeTree.match("/js/app.min.js", HttpMethod.GET));
+        // A route is only removed through the method matching how it was added
+        routeTree.addPrefixRoute("/static/", HttpMethod.GET, stableHandler);
+        assertFalse(routeTree.removeRoute("/static/", HttpMethod.GET));
+        assertNotNull(routeTree.match("/static/app.css", HttpMethod.GET));
+    }
+
+    @Test
+    void testRemovedRouteIsNotServedFromCache() {
+        routeTree.addRoute("/api/items/{id}", HttpMethod.GET, stableHandler);
+        assertNotNull(routeTree.match("/api/items/1", HttpMethod.GET));
+        assertNotNull(routeTree.match("/api/items/1", HttpMethod.GET));
+
+        routeTree.removeRoute("/api/items/{id}", HttpMethod.GET);
+
+        assertNull(routeTree.match("/api/items/1", HttpMethod.GET));
+        assertEquals(RouteDecision.Outcome.NO_ROUTE, routeTree.route("/api/items/1", HttpMethod.GET).outcome());
+    }
+
+    @Test
+    void testReRegistrationReplacesHandler() {
+        Function<ApiRequest, ApiResponse<?>> replacement = request -> ApiResponse.ok("replacement");
+        routeTree.addRoute("/api/items/{id}", HttpMethod.GET, stableHandler);
+        assertSame(stableHandler, routeTree.match("/api/items/1", HttpMethod.GET).handler());
+
+        routeTree.addRoute("/api/items/{id}", HttpMethod.GET, replacement);
+
+        assertSame(replacement, routeTree.match("/api/items/1", HttpMethod.GET).handler());
+        assertTrue(routeTree.removeRoute("/api/items/{id}", HttpMethod.GET));
+        assertNull(routeTree.match("/api/items/1", HttpMethod.GET));
+    }
+
+    @Test
+    void testFrozenCopyIsUnaffectedByLaterChanges() {
+        routeTree.addRoute("/api/items/{id}", HttpMethod.GET, stableHandler);
+        RouteTree frozen = routeTree.freeze();
+
+        routeTree.removeRoute("/api/items/{id}", HttpMethod.GET);
+        routeTree.addRoute("/api/other/{id}", HttpMethod.GET, stableHandler);
+
+        assertNotNull(frozen.match("/api/items/1", HttpMethod.GET));
+        assertNull(frozen.match("/api/other/1", HttpMethod.GET));
+        assertThrows(IllegalStateException.class, () -> frozen.removeRoute("/api/items/{id}", HttpMethod.GET));
+    }
+
+    @Test
+    void testCacheSettingsSurviveRouteChanges() {
+        routeTree.setCache(RouteTree.CachePolicy.TINY_LFU, 10);
+        routeTree.addRoute("/api/items/{id}", HttpMethod.GET, stableHandler);
+        routeTree.match("/api/items/1", HttpMethod.GET);
+
+        routeTree.addRoute("/api/other/{id}", HttpMethod.GET, stableHandler);
+        routeTree.match("/api/items/1", HttpMethod.GET);
+
+        RouteTree.CacheStats stats = routeTree.cacheStats();
+        assertEquals(RouteTree.CachePolicy.TINY_LFU, stats.policy());
+        assertEquals(10, stats.capacity());
+        // The new snapshot starts with an empty cache
+        assertEquals(1, stats.misses());
+        assertEquals(0, stats.hits());
+    }
+
+    @Test
+    void testRegistrationChurnAlongsideMatching() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            routeTree.addRoute("/api/stable" + i + "/{id}", HttpMethod.GET, stableHandler);
+        }
+        routeTree.addPrefixRoute("/static/", HttpMethod.GET, stableHandler);
+
+        int readers = 6;
+        int writers = 2;
+        int plugins = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(readers + writers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writerFutures = new ArrayList<>();
+        List<Future<?>> readerFutures = new ArrayList<>();
+
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            writerFutures.add(executor.submit(() -> {
+                start.await();
+                for (int round = 0; round < 300; round++) {
+                    for (int p = writer; p < plugins; p += writers) {
+                        String pattern = "/api/plugin" + p + "/{id}";
+                        Function<ApiRequest, ApiResponse<?>> pluginHandler = request -> ApiResponse.ok(pattern);
+                        routeTree.addRoute(pattern, HttpMethod.GET, pluginHandler);
+                        if (round % 2 == 0) {
+                            assertTrue(routeTree.removeRoute(pattern, HttpMethod.GET));
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        for (int r = 0; r < readers; r++) {
+            int reader = r;
+            readerFutures.add(executor.submit(() -> {
+                start.await();
+                int i = reader;
+                while (writing.get()) {
+                    String id = String.valueOf(i % 97);
+
+                    // Stable routes are matched in every snapshot, with their own variables
+                    String stable = "/api/stable" + (i % 50) + "/" + id;
+                    RouteTree.MatchResult result = routeTree.match(stable, HttpMethod.GET);
+                    assertNotNull(result, stable);
+                    assertSame(stableHandler, result.handler());
+                    assertEquals(Map.of("id", id), result.pathVariables());
+                    assertEquals(RouteDecision.Outcome.MATCHED, routeTree.route(stable, HttpMethod.GET).outcome());
+                    assertNotNull(routeTree.match("/static/app" + id + ".js", HttpMethod.GET));
+
+                    // Plugin routes come and go, but a match always belongs to the requested plugin
+                    int plugin = i % plugins;
+                    RouteTree.MatchResult pluginResult = routeTree.match("/api/plugin" + plugin + "/" + id, HttpMethod.GET);
+                    if (pluginResult != null) {
+                        assertEquals("/api/plugin" + plugin + "/{id}", pluginResult.pattern());
+                        assertEquals(Map.of("id", id), pluginResult.pathVariables());
+                    }
+                    i += readers;
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        try {
+            for (Future<?> future : writerFutures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            writing.set(false);
+        }
+        for (Future<?> future : readerFutures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // The last round kept every plugin route registered
+        for (int p = 0; p < plugins; p++) {
+            RouteTree.MatchResult result = routeTree.match("/api/plugin" + p + "/7", HttpMethod.GET);
+            assertNotNull(result, "plugin " + p);
+            assertEquals("/api/plugin" + p + "/{id}", result.pattern());
+        }
+    }
+}
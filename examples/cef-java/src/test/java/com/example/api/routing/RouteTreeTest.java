@@ -269,4 +269,40 @@ class RouteTreeTest {
         assertNotNull(result2);
         assertEquals("document.pdf", result2.pathVariables().get("filename"));
     }
+
+    @Test
+    void testEmptySegmentsAreIgnoredWhenMatchingPatterns() {
+        routeTree.addRoute("/api/users/{id}", HttpMethod.GET, testHandler);
+
+        RouteTree.MatchResult result = routeTree.match("//api/users//42/", HttpMethod.GET);
+        assertNotNull(result);
+        assertEquals(Map.of("id", "42"), result.pathVariables());
+        assertTrue(routeTree.hasPath("/api//users/42"));
+    }
+
+    @Test
+    void testBacktrackingDropsVariablesOfFailedBranch() {
+        Function<ApiRequest, ApiResponse<?>> literalHandler = request -> ApiResponse.ok("literal");
+        routeTree.addRoute("/api/{kind}/details", HttpMethod.GET, testHandler);
+        routeTree.addRoute("/api/users/{id}/posts", HttpMethod.GET, literalHandler);
+
+        // "users" is a literal child, but /api/users/details only matches via the template branch
+        RouteTree.MatchResult result = routeTree.match("/api/users/details", HttpMethod.GET);
+        assertNotNull(result);
+        assertSame(testHandler, result.handler());
+        assertEquals(Map.of("kind", "users"), result.pathVariables());
+    }
+
+    @Test
+    void testLiteralSegmentsComparedByFullLength() {
+        routeTree.addRoute("/api/user/{id}", HttpMethod.GET, testHandler);
+        routeTree.addRoute("/api/users/{id}/list", HttpMethod.GET, testHandler);
+
+        assertNotNull(routeTree.match("/api/user/1", HttpMethod.GET));
+        assertNotNull(routeTree.match("/api/users/1/list", HttpMethod.GET));
+        assertNull(routeTree.match("/api/use/1", HttpMethod.GET));
+        assertNull(routeTree.match("/api/users/1", HttpMethod.GET));
+        assertNull(routeTree.match("/api/userss/1/list", HttpMethod.GET));
+        assertFalse(routeTree.hasPath("/api/use/1"));
+    }
 }
@@ -0,0 +1,194 @@
+package com.example.api.routing;
+
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.ApiResponse;
+import com.example.api.protocol.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for single-segment {@code *} wildcards and {@code {path*}} / {@code **} tail segments in RouteTree.
+ */
+class RouteTreeWildcardTest {
+
+    private RouteTree routeTree;
+    private Function<ApiRequest, ApiResponse<?>> literalHandler;
+    private Function<ApiRequest, ApiResponse<?>> templateHandler;
+    private Function<ApiRequest, ApiResponse<?>> wildcardHandler;
+    private Function<ApiRequest, ApiResponse<?>> tailHandler;
+
+    @BeforeEach
+    void setUp() {
+        routeTree = new RouteTree();
+        literalHandler = request -> ApiResponse.ok("literal");
+        templateHandler = request -> ApiResponse.ok("template");
+        wildcardHandler = request -> ApiResponse.ok("wildcard");
+        tailHandler = request -> ApiResponse.ok("tail");
+    }
+
+    @Test
+    void testTailBindsRemainingPath() {
+        routeTree.addRoute("/assets/{path*}", HttpMethod.GET, tailHandler);
+
+        RouteTree.MatchResult result = routeTree.match("/assets/js/vendor/app.js", HttpMethod.GET);
+
+        assertNotNull(result);
+        assertSame(tailHandler, result.handler());
+        assertEquals(Map.of("path", "js/vendor/app.js"), result.pathVariables());
+        assertEquals("/assets/{path*}", result.pattern());
+        assertEquals(Map.of("path", "index.html"),
+            routeTree.match("/assets/index.html/", HttpMethod.GET).pathVariables());
+    }
+
+    @Test
+    void testTailMatchesZeroSegments() {
+        routeTree.addRoute("/app/{path*}", HttpMethod.GET, tailHandler);
+
+        assertEquals(Map.of("path", ""), routeTree.match("/app", HttpMethod.GET).pathVariables());
+        assertEquals(Map.of("path", ""), routeTree.match("/app/", HttpMethod.GET).pathVariables());
+        assertNull(routeTree.match("/application", HttpMethod.GET));
+    }
+
+    @Test
+    void testUnnamedTailBindsNothing() {
+        routeTree.addRoute("/docs/**", HttpMethod.GET, tailHandler);
+
+        RouteTree.MatchResult result = routeTree.match("/docs/guide/intro.html", HttpMethod.GET);
+
+        assertNotNull(result);
+        assertTrue(result.pathVariables().isEmpty());
+        assertNotNull(routeTree.match("/docs", HttpMethod.GET));
+    }
+
+    @Test
+    void testTailAfterTemplateBindsBoth() {
+        routeTree.addRoute("/repos/{repo}/files/{path*}", HttpMethod.GET, tailHandler);
+
+        assertEquals(Map.of("repo", "cef", "path", "src/main/App.java"),
+            routeTree.match("/repos/cef/files/src/main/App.java", HttpMethod.GET).pathVariables());
+    }
+
+    @Test
+    void testWildcardMatchesOneSegmentWithoutBinding() {
+        routeTree.addRoute("/api/*/health", HttpMethod.GET, wildcardHandler);
+
+        RouteTree.MatchResult result = routeTree.match("/api/billing/health", HttpMethod.GET);
+
+        assertNotNull(result);
+        assertSame(wildcardHandler, result.handler());
+        assertTrue(result.pathVariables().isEmpty());
+        assertNull(routeTree.match("/api/health", HttpMethod.GET));
+        assertNull(routeTree.match("/api/billing/eu/health", HttpMethod.GET));
+    }
+
+    @Test
+    void testPrecedenceIsIndependentOfRegistrationOrder() {
+        routeTree.addRoute("/files/{path*}", HttpMethod.GET, tailHandler);
+        routeTree.addRoute("/files/*", HttpMethod.GET, wildcardHandler);
+        routeTree.addRoute("/files/{id}", HttpMethod.GET, templateHandler);
+        routeTree.addRoute("/files/{id}/meta", HttpMethod.GET, templateHandler);
+        routeTree.addRoute("/files/readme", HttpMethod.GET, literalHandler);
+
+        assertSame(literalHandler, routeTree.match("/files/readme", HttpMethod.GET).handler());
+        assertSame(templateHandler, routeTree.match("/files/42", HttpMethod.GET).handler());
+        assertSame(templateHandler, routeTree.match("/files/42/meta", HttpMethod.GET).handler());
+        assertSame(tailHandler, routeTree.match("/files/42/raw", HttpMethod.GET).handler());
+        assertEquals(Map.of("path", "42/raw"), routeTree.match("/files/42/raw", HttpMethod.GET).pathVariables());
+    }
+
+    @Test
+    void testWildcardBeforeTail() {
+        routeTree.addRoute("/files/**", HttpMethod.GET, tailHandler);
+        routeTree.addRoute("/files/*/meta", HttpMethod.GET, wildcardHandler);
+
+        assertSame(wildcardHandler, routeTree.match("/files/42/meta", HttpMethod.GET).handler());
+        assertSame(tailHandler, routeTree.match("/files/42/raw", HttpMethod.GET).handler());
+    }
+
+    @Test
+    void testBacktracksToTailFromDeadEnd() {
+        routeTree.addRoute("/api/users/{id}/posts", HttpMethod.GET, templateHandler);
+        routeTree.addRoute("/api/{rest*}", HttpMethod.GET, tailHandler);
+
+        RouteTree.MatchResult result = routeTree.match("/api/users/7", HttpMethod.GET);
+
+        assertSame(tailHandler, result.handler());
+        assertEquals(Map.of("rest", "users/7"), result.pathVariables());
+        assertSame(templateHandler, routeTree.match("/api/users/7/posts", HttpMethod.GET).handler());
+    }
+
+    @Test
+    void testTailRespectsMethod() {
+        routeTree.addRoute("/assets/{path*}", HttpMethod.GET, tailHandler);
+
+        assertNull(routeTree.match("/assets/app.js", HttpMethod.POST));
+        assertTrue(routeTree.hasPath("/assets/app.js"));
+        assertTrue(routeTree.hasPath("/assets"));
+
+        RouteDecision decision = routeTree.route("/assets/app.js", HttpMethod.POST);
+        assertEquals(RouteDecision.Outcome.METHOD_NOT_ALLOWED, decision.outcome());
+        assertEquals(Set.of(HttpMethod.GET), decision.allowedMethods());
+    }
+
+    @Test
+    void testRootTailServesSinglePageApp() {
+        routeTree.addRoute("/api/users/{id}", HttpMethod.GET, templateHandler);
+        routeTree.addRoute("/health", HttpMethod.GET, literalHandler);
+        routeTree.addRoute("/{route*}", HttpMethod.GET, tailHandler);
+
+        assertSame(templateHandler, routeTree.match("/api/users/1", HttpMethod.GET).handler());
+        assertSame(literalHandler, routeTree.match("/health", HttpMethod.GET).handler());
+        assertEquals(Map.of("route", "settings/profile"),
+            routeTree.match("/settings/profile", HttpMethod.GET).pathVariables());
+        assertEquals(Map.of("route", ""), routeTree.match("/", HttpMethod.GET).pathVariables());
+        assertEquals(RouteDecision.Outcome.MATCHED, routeTree.route("/unknown/page", HttpMethod.GET).outcome());
+    }
+
+    @Test
+    void testLiteralSegmentContainingAsteriskIsNotAWildcard() {
+        routeTree.addRoute("/files/*.js", HttpMethod.GET, literalHandler);
+
+        assertNotNull(routeTree.match("/files/*.js", HttpMethod.GET));
+        assertNull(routeTree.match("/files/app.js", HttpMethod.GET));
+    }
+
+    @Test
+    void testTailMustBeLastSegment() {
+        IllegalArgumentException named = assertThrows(IllegalArgumentException.class,
+            () -> routeTree.addRoute("/assets/{path*}/raw", HttpMethod.GET, tailHandler));
+        assertTrue(named.getMessage().contains("/assets/{path*}/raw"));
+        assertThrows(IllegalArgumentException.class,
+            () -> routeTree.addRoute("/docs/**/index.html", HttpMethod.GET, tailHandler));
+
+        // Nothing was registered
+        assertFalse(routeTree.hasPath("/assets/a/raw"));
+    }
+
+    @Test
+    void testFrozenTreeMatchesWildcards() {
+        routeTree.addRoute("/assets/{path*}", HttpMethod.GET, tailHandler);
+        routeTree.addRoute("/api/*/status", HttpMethod.GET, wildcardHandler);
+        RouteTree frozen = routeTree.freeze();
+
+        assertEquals(Map.of("path", "css/site.css"),
+            frozen.match("/assets/css/site.css", HttpMethod.GET).pathVariables());
+        assertSame(wildcardHandler, frozen.match("/api/v2/status", HttpMethod.GET).handler());
+        assertNull(frozen.match("/other", HttpMethod.GET));
+    }
+
+    @Test
+    void testRemoveTailRoute() {
+        routeTree.addRoute("/assets/{path*}", HttpMethod.GET, tailHandler);
+        assertNotNull(routeTree.match("/assets/app.js", HttpMethod.GET));
+
+        assertTrue(routeTree.removeRoute("/assets/{path*}", HttpMethod.GET));
+
+        assertNull(routeTree.match("/assets/app.js", HttpMethod.GET));
+    }
+}
@@ -1,9 +1,20 @@
 package com.example.api.util;
 
 import com.example.api.protocol.MultipartFile;
+import com.example.api.protocol.RequestBody;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -12,6 +23,61 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class MultipartParserTest {
 
+    private static final String CONTENT_TYPE = "multipart/form-data; boundary=----Boundary";
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Builds a body with a text field and a binary file.
+     */
+    private static byte[] fieldAndFile(byte[] upload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("preamble\r\n" +
+            "------Boundary\r\n" +
+            "Content-Disposition: form-data; name=\"title\"\r\n" +
+            "\r\n" +
+            "Café\r\n" +
+            "------Boundary\r\n" +
+            "Content-Disposition: form-data; name=\"file\"; filename=\"data.bin\"\r\n" +
+            "Content-Type: application/octet-stream\r\n" +
+            "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(upload);
+        out.write("\r\n------Boundary--\r\n".getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    /**
+     * Random bytes that include CRLFs and partial delimiters.
+     */
+    private static byte[] binary(int size) {
+        byte[] data = new byte[size];
+        new Random(42).nextBytes(data);
+        byte[] partial = "\r\n------Bound".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i + partial.length < size; i += 997) {
+            System.arraycopy(partial, 0, data, i, partial.length);
+        }
+        return data;
+    }
+
+    /**
+     * Stream that returns at most a few bytes per read, so delimiters straddle reads.
+     */
+    private static InputStream trickle(byte[] data) {
+        return new ByteArrayInputStream(data) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 7));
+            }
+        };
+    }
+
+    private long filesIn(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
     @Test
     void testParse_SingleFormField() {
         String boundary = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
@@ -149,4 +215,119 @@ class MultipartParserTest {
 
         assertNotNull(file.getInputStream());
     }
+
+    @Test
+    void testParse_BinaryContentIsKept() throws IOException {
+        byte[] upload = binary(10_000);
+        byte[] body = fieldAndFile(upload);
+
+        MultipartParser.MultipartData data = MultipartParser.parse(body, CONTENT_TYPE);
+
+        assertEquals("Café", data.getField("title"));
+        MultipartFile file = data.getFile("file");
+        assertArrayEquals(upload, file.getBytes());
+        assertEquals(upload.length, file.getSize());
+        assertFalse(file.isFileBacked());
+    }
+
+    @Test
+    void testParse_FilenameBeforeName() {
+        String body = "------Boundary\r\n" +
+            "Content-Disposition: form-data; filename=\"a.txt\"; name=\"upload\"\r\n" +
+            "\r\n" +
+            "text\r\n" +
+            "------Boundary--";
+
+        MultipartParser.MultipartData data = MultipartParser.parse(body.getBytes(StandardCharsets.UTF_8), CONTENT_TYPE);
+
+        assertEquals("a.txt", data.getFile("upload").getOriginalFilename());
+    }
+
+    @Test
+    void testParse_EmptyValue() {
+        String body = "------Boundary\r\n" +
+            "Content-Disposition: form-data; name=\"empty\"\r\n" +
+            "\r\n" +
+            "\r\n" +
+            "------Boundary--";
+
+        MultipartParser.MultipartData data = MultipartParser.parse(body.getBytes(StandardCharsets.UTF_8), CONTENT_TYPE);
+
+        assertEquals("", data.getField("empty"));
+    }
+
+    @Test
+    void testParse_MissingClosingBoundary() {
+        String body = "------Boundary\r\n" +
+            "Content-Disposition: form-data; name=\"title\"\r\n" +
+            "\r\n" +
+            "Truncated";
+
+        assertThrows(IllegalArgumentException.class, () ->
+            MultipartParser.parse(body.getBytes(StandardCharsets.UTF_8), CONTENT_TYPE));
+        assertThrows(IllegalArgumentException.class, () ->
+            MultipartParser.parseStream(trickle(body.getBytes(StandardCharsets.UTF_8)), CONTENT_TYPE));
+    }
+
+    @Test
+    void testParseStream_MatchesParse() throws IOException {
+        byte[] upload = binary(200_000);
+
+        MultipartParser.MultipartData data = MultipartParser.parseStream(trickle(fieldAndFile(upload)), CONTENT_TYPE);
+
+        assertEquals("Café", data.getField("title"));
+        assertArrayEquals(upload, data.getFile("file").getBytes());
+        assertEquals("data.bin", data.getFile("file").getOriginalFilename());
+    }
+
+    @Test
+    void testParseStream_SpoolsLargeParts() throws IOException {
+        byte[] upload = binary(100_000);
+
+        MultipartParser.MultipartData data = MultipartParser.parseStream(
+            new ByteArrayInputStream(fieldAndFile(upload)), CONTENT_TYPE, new RequestBody.Spooling(1024, tempDir));
+
+        MultipartFile file = data.getFile("file");
+        assertTrue(file.isFileBacked());
+        assertEquals(upload.length, file.getSize());
+        assertArrayEquals(upload, file.getInputStream().readAllBytes());
+        assertEquals("Café", data.getField("title"));
+
+        Path saved = tempDir.resolve("saved.bin");
+        file.transferTo(saved);
+        assertArrayEquals(upload, Files.readAllBytes(saved));
+
+        // Only the saved copy is left once the spooled part is closed
+        data.close();
+        assertEquals(1, filesIn(tempDir));
+    }
+
+    @Test
+    void testParts_IteratesInOrder() throws IOException {
+        try (MultipartParser.PartIterator parts = MultipartParser.parts(
+                new ByteArrayInputStream(fieldAndFile(binary(100))), CONTENT_TYPE)) {
+            MultipartFile title = parts.next();
+            assertEquals("title", title.getName());
+            assertNull(title.getOriginalFilename());
+            assertEquals("Café", title.getContentAsString());
+
+            MultipartFile file = parts.next();
+            assertEquals("file", file.getName());
+            assertEquals(100, file.getSize());
+
+            assertFalse(parts.hasNext());
+        }
+    }
+
+    @Test
+    void testMultipartFile_Slice() {
+        byte[] array = "headcontenttail".getBytes(StandardCharsets.UTF_8);
+        MultipartFile file = new MultipartFile("file", "test.txt", "text/plain", array, 4, 7);
+
+        assertEquals(7, file.getSize());
+        assertEquals("content", file.getContentAsString());
+        assertArrayEquals(Arrays.copyOfRange(array, 4, 11), file.getBytes());
+        assertThrows(IndexOutOfBoundsException.class, () ->
+            new MultipartFile("file", "test.txt", "text/plain", array, 10, 10));
+    }
 }
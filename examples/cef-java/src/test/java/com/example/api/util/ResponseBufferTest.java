@@ -0,0 +1,79 @@
+package com.example.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ResponseBuffer utility.
+ */
+class ResponseBufferTest {
+
+    @Test
+    void testWrite_GrowsBeyondInitialCapacity() {
+        ResponseBuffer buffer = ResponseBuffer.acquire();
+        byte[] chunk = "0123456789".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < 1000; i++) {
+            buffer.write(chunk, 0, chunk.length);
+        }
+        buffer.write('!');
+
+        assertEquals(10_001, buffer.size());
+        byte[] content = buffer.toByteArray();
+        assertEquals('0', content[0]);
+        assertEquals('9', content[9_999]);
+        assertEquals('!', content[10_000]);
+        buffer.release();
+    }
+
+    @Test
+    void testAsByteBuffer_WrapsContentOnly() {
+        ResponseBuffer buffer = ResponseBuffer.acquire();
+        buffer.write("{\"id\":1}".getBytes(StandardCharsets.UTF_8), 0, 8);
+
+        ByteBuffer view = buffer.asByteBuffer();
+
+        assertEquals(8, view.remaining());
+        assertSame(buffer.array(), view.array());
+        buffer.release();
+    }
+
+    @Test
+    void testClose_KeepsContent() {
+        ResponseBuffer buffer = ResponseBuffer.acquire();
+        buffer.write(42);
+        buffer.close();
+
+        assertArrayEquals(new byte[]{42}, buffer.toByteArray());
+        buffer.release();
+    }
+
+    @Test
+    void testRelease_ReusesBufferOnSameThread() {
+        ResponseBuffer first = ResponseBuffer.acquire();
+        first.write(1);
+        first.release();
+
+        ResponseBuffer second = ResponseBuffer.acquire();
+
+        assertSame(first, second);
+        assertEquals(0, second.size());
+        second.release();
+    }
+
+    @Test
+    void testRelease_DropsOversizedBuffer() {
+        ResponseBuffer large = ResponseBuffer.acquire();
+        byte[] chunk = new byte[ResponseBuffer.MAX_POOLED_CAPACITY + 1];
+        large.write(chunk, 0, chunk.length);
+        large.release();
+
+        ResponseBuffer next = ResponseBuffer.acquire();
+
+        assertNotSame(large, next);
+        next.release();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.api.validation;
+
+import com.example.api.exception.ValidationException;
+import com.example.api.interceptor.ValidationInterceptor;
+import com.example.api.protocol.ApiRequest;
+import com.example.api.protocol.HttpMethod;
+import com.example.api.validation.OperationValidators.ListTasks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the typed parameter binding of the generated operation validators:
+ * values are decoded once, kept on the request by validation and reused by the handler.
+ */
+@DisplayName("OperationValidators Binding Tests")
+class OperationValidatorsTest {
+
+    @Mock
+    private ApiRequest mockRequest;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("Validation should keep the bound parameters on the request")
+    void testValidationBindsParameters() throws Exception {
+        when(mockRequest.getMethod()).thenReturn(HttpMethod.GET);
+        when(mockRequest.getPath()).thenReturn("/api/tasks");
+        when(mockRequest.getQueryParam("status")).thenReturn("pending");
+        when(mockRequest.getQueryParam("page")).thenReturn("2");
+        when(mockRequest.getQueryParam("size")).thenReturn("50");
+
+        new ValidationInterceptor().beforeHandle(mockRequest);
+
+        verify(mockRequest).setBoundParameters(new ListTasks.Parameters("pending", 2, 50));
+    }
+
+    @Test
+    @DisplayName("Handler should reuse the parameters bound by validation")
+    void testHandlerReusesBoundParameters() {
+        ListTasks.Parameters bound = new ListTasks.Parameters("pending", 2, 50);
+        when(mockRequest.getBoundParameters()).thenReturn(bound);
+
+        assertThat(ListTasks.parameters(mockRequest)).isSameAs(bound);
+        verify(mockRequest, never()).getQueryParam(anyString());
+    }
+
+    @Test
+    @DisplayName("Handler should bind parameters of a request that was not validated")
+    void testHandlerBindsWithoutConstraints() {
+        when(mockRequest.getQueryParam("status")).thenReturn("unknown");
+        when(mockRequest.getQueryParam("page")).thenReturn("0");
+        when(mockRequest.getQueryParam("size")).thenReturn("");
+
+        assertThat(ListTasks.parameters(mockRequest))
+                .isEqualTo(new ListTasks.Parameters("unknown", 0, null));
+    }
+
+    @Test
+    @DisplayName("Malformed numbers should fail binding with validation errors")
+    void testMalformedNumbersAreValidationErrors() {
+        when(mockRequest.getQueryParam("page")).thenReturn("abc");
+        when(mockRequest.getQueryParam("size")).thenReturn("1.5");
+
+        assertThatThrownBy(() -> ListTasks.parameters(mockRequest))
+                .isInstanceOf(ValidationException.class)
+                .satisfies(ex -> {
+                    ValidationException vex = (ValidationException) ex;
+                    assertThat(vex.getErrors()).hasSize(2);
+                    assertThat(vex.getErrors().get(0).getParameter()).isEqualTo("page");
+                    assertThat(vex.getErrors().get(0).getConstraint()).isEqualTo("type");
+                    assertThat(vex.getErrors().get(0).getMessage()).isEqualTo("page must be a valid integer");
+                    assertThat(vex.getErrors().get(1).getParameter()).isEqualTo("size");
+                });
+    }
+}
@@ -23,6 +23,11 @@ repositories {
 
 kotlin {
     jvmToolchain(21)
+    compilerOptions {
+        // No delegating stubs for interface defaults, so interceptor chains can tell which
+        // phases an interceptor really overrides
+        freeCompilerArgs.add("-jvm-default=no-compatibility")
+    }
 }
 
 dependencies {
@@ -211,12 +211,12 @@ class KotlinGenerationTest {
     inner class UtilityLayerTests {
 
         @Test
-        @DisplayName("MultipartFile data class generates correctly")
+        @DisplayName("MultipartFile class generates correctly")
         fun testMultipartFileGeneration() {
             val file = getGeneratedFile("protocol/MultipartFile.kt")
             val content = file.readText()
 
-            assertTrue(content.contains("data class MultipartFile"), "MultipartFile should be a data class")
+            assertTrue(content.contains("class MultipartFile"), "MultipartFile should be a class")
             assertTrue(content.contains("name"), "MultipartFile should have name property")
             assertTrue(content.contains("originalFilename"), "MultipartFile should have originalFilename")
             assertTrue(content.contains("contentType"), "MultipartFile should have contentType")
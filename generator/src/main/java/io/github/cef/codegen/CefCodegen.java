@@ -11,16 +11,20 @@ import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 
 import java.io.File;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
 import io.github.cef.codegen.config.GeneratorLayer;
+import io.github.cef.codegen.processing.CompiledRouterModel;
 import io.github.cef.codegen.processing.EnumFieldProcessor;
 import io.github.cef.codegen.processing.ImportFilter;
+import io.github.cef.codegen.processing.OperationValidatorModel;
 import io.github.cef.codegen.processing.ParameterConstraintExtractor;
 
 import static io.github.cef.codegen.config.FileSpec.API_SERVICE;
 import static io.github.cef.codegen.config.FileSpec.MOCK_SERVICE;
+import static org.openapitools.codegen.CliOption.newBoolean;
 import static org.openapitools.codegen.CliOption.newString;
 import static org.openapitools.codegen.CodegenConstants.SERIALIZABLE_MODEL;
 
@@ -62,11 +66,18 @@ public class CefCodegen extends AbstractJavaCodegen {
     static final String OPT_GENERATE_CONSTRUCTOR =
         "generateConstructorWithAllArgs";
     static final String OPT_GENERATE_BUILDERS = "generateBuilders";
+    static final String OPT_COMPILED_ROUTER = "compiledRouter";
+    static final String OPT_JACKSON_BYTECODE_MODULE = "jacksonBytecodeModule";
 
     // Bundle keys for Mustache templates
     static final String BUNDLE_SERVER_URLS = "serverUrls";
     static final String BUNDLE_HAS_SERVERS = "hasServers";
 
+    // Jackson bytecode-generation modules: option value -> template flag
+    static final Map<String, String> JACKSON_BYTECODE_MODULES = Map.of(
+        "afterburner", "jacksonAfterburner",
+        "blackbird", "jacksonBlackbird");
+
     public CefCodegen() {
         super();
         this.hideGenerationTimestamp = true;
@@ -80,6 +91,14 @@ public class CefCodegen extends AbstractJavaCodegen {
             "Suffix for model class names (e.g. 'Dto')"));
         cliOptions.add(newString(OPT_MODEL_PREFIX,
             "Prefix for model class names"));
+        cliOptions.add(newBoolean(OPT_COMPILED_ROUTER,
+            "Generate a CompiledRouter that matches the API operations "
+                + "with generated switch code instead of the runtime trie",
+            false));
+        cliOptions.add(newString(OPT_JACKSON_BYTECODE_MODULE,
+            "Jackson bytecode-generation module registered on the default "
+                + "ObjectMapper: 'afterburner' or 'blackbird' "
+                + "(the generated code then depends on that module)"));
     }
 
     @Override
@@ -101,6 +120,10 @@ public class CefCodegen extends AbstractJavaCodegen {
         applyGenerationOptions();
         configureTemplates();
         GeneratorLayer.registerAll(supportingFiles, apiPackage, sourceFolder);
+        if (isCompiledRouter()) {
+            GeneratorLayer.registerCompiledRouter(
+                supportingFiles, apiPackage, sourceFolder);
+        }
         supportingFiles.add(
             new SupportingFile(README_TEMPLATE, "", README_OUTPUT));
     }
@@ -121,6 +144,27 @@ public class CefCodegen extends AbstractJavaCodegen {
         propagateBoolean(OPT_CONTAINER_DEFAULT_TO_NULL);
         propagateBoolean(OPT_GENERATE_CONSTRUCTOR);
         propagateBoolean(OPT_GENERATE_BUILDERS);
+        propagateBoolean(OPT_COMPILED_ROUTER);
+        applyJacksonBytecodeModule();
+    }
+
+    private void applyJacksonBytecodeModule() {
+        var value = additionalProperties.get(OPT_JACKSON_BYTECODE_MODULE);
+        if (value == null || value.toString().isBlank()) return;
+
+        var flag = JACKSON_BYTECODE_MODULES.get(
+            value.toString().trim().toLowerCase(Locale.ROOT));
+        if (flag == null) {
+            throw new IllegalArgumentException("Unsupported "
+                + OPT_JACKSON_BYTECODE_MODULE + " '" + value
+                + "', expected one of " + JACKSON_BYTECODE_MODULES.keySet());
+        }
+        additionalProperties.put(flag, true);
+    }
+
+    protected boolean isCompiledRouter() {
+        return Boolean.TRUE.equals(
+            additionalProperties.get(OPT_COMPILED_ROUTER));
     }
 
     private void propagateBoolean(String key) {
@@ -201,7 +245,7 @@ public class CefCodegen extends AbstractJavaCodegen {
         return result;
     }
 
-    // ── Supporting file data (server URLs)
+    // ── Supporting file data (server URLs, validators, compiled router)
 
     @Override
     public Map<String, Object> postProcessSupportingFileData(
@@ -221,6 +265,12 @@ public class CefCodegen extends AbstractJavaCodegen {
             }
         }
 
+        OperationValidatorModel.apply(result);
+
+        if (isCompiledRouter()) {
+            CompiledRouterModel.apply(result);
+        }
+
         return result;
     }
 }
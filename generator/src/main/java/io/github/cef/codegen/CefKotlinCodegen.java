@@ -46,6 +46,8 @@ public class CefKotlinCodegen extends CefCodegen {
         super();
         embeddedTemplateDir = templateDir = TEMPLATE_DIR;
         sourceFolder = KOTLIN_SOURCE_FOLDER;
+        cliOptions.removeIf(option ->
+            OPT_COMPILED_ROUTER.equals(option.getOpt()));
         configureKotlinTypes();
     }
 
@@ -129,6 +131,15 @@ public class CefKotlinCodegen extends CefCodegen {
         convertSupportingFilesToKotlin();
     }
 
+    /**
+     * The compiled router is emitted as Java switch code only;
+     * Kotlin output keeps the runtime route tree.
+     */
+    @Override
+    protected boolean isCompiledRouter() {
+        return false;
+    }
+
     private void convertSupportingFilesToKotlin() {
         List<SupportingFile> kotlinFiles = new ArrayList<>();
         for (var file : supportingFiles) {
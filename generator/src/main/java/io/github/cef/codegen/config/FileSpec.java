@@ -20,20 +20,35 @@ public enum FileSpec {
     API_REQUEST("apiRequest.mustache", "ApiRequest.java"),
     API_RESPONSE("apiResponse.mustache", "ApiResponse.java"),
     MULTIPART_FILE("multipartFile.mustache", "MultipartFile.java"),
+    REQUEST_URL("requestUrl.mustache", "RequestUrl.java"),
+    JSON_CODEC("jsonCodec.mustache", "JsonCodec.java"),
+    REQUEST_BODY("requestBody.mustache", "RequestBody.java"),
 
     // Routing layer
     ROUTE_TREE("routeTree.mustache", "RouteTree.java"),
     ROUTE_NODE("routeNode.mustache", "RouteNode.java"),
+    ROUTE_CACHE("routeCache.mustache", "RouteCache.java"),
+    ROUTE_TABLE("routeTable.mustache", "RouteTable.java"),
+    PREFIX_TREE("prefixTree.mustache", "PrefixTree.java"),
+    CONTAINS_AUTOMATON("containsAutomaton.mustache", "ContainsAutomaton.java"),
+    ROUTE_DECISION("routeDecision.mustache", "RouteDecision.java"),
+    PATH_VARIABLES("pathVariables.mustache", "PathVariables.java"),
+    ROUTE_HANDLERS("routeHandlers.mustache", "RouteHandlers.java"),
+    COMPILED_ROUTER("compiledRouter.mustache", "CompiledRouter.java"),
 
     // CEF integration layer
     API_CEF_REQUEST_HANDLER("apiCefRequestHandler.mustache", "ApiCefRequestHandler.java"),
     API_CEF_REQUEST_HANDLER_BUILDER("apiCefRequestHandlerBuilder.mustache", "ApiCefRequestHandlerBuilder.java"),
     API_RESOURCE_REQUEST_HANDLER("apiResourceRequestHandler.mustache", "ApiResourceRequestHandler.java"),
     API_RESPONSE_HANDLER("apiResponseHandler.mustache", "ApiResponseHandler.java"),
+    URL_FILTER("urlFilter.mustache", "UrlFilter.java"),
+    ASYNC_RESPONSE_HANDLER("asyncResponseHandler.mustache", "AsyncResponseHandler.java"),
+    FILE_BODY("fileBody.mustache", "FileBody.java"),
 
     // Utility layer
     CONTENT_TYPE_RESOLVER("contentTypeResolver.mustache", "ContentTypeResolver.java"),
     MULTIPART_PARSER("multipartParser.mustache", "MultipartParser.java"),
+    RESPONSE_BUFFER("responseBuffer.mustache", "ResponseBuffer.java"),
 
     // Exception layer
     API_EXCEPTION("apiException.mustache", "ApiException.java"),
@@ -45,9 +60,11 @@ public enum FileSpec {
 
     // Validation layer
     PARAMETER_VALIDATOR("parameterValidator.mustache", "ParameterValidator.java"),
+    OPERATION_VALIDATORS("operationValidators.mustache", "OperationValidators.java"),
 
     // Interceptor layer
     REQUEST_INTERCEPTOR("requestInterceptor.mustache", "RequestInterceptor.java"),
+    INTERCEPTOR_CHAIN("interceptorChain.mustache", "InterceptorChain.java"),
     EXCEPTION_HANDLER("exceptionHandler.mustache", "ExceptionHandler.java"),
     COMPOSITE_EXCEPTION_HANDLER("compositeExceptionHandler.mustache", "CompositeExceptionHandler.java"),
     CORS_INTERCEPTOR("corsInterceptor.mustache", "CorsInterceptor.java"),
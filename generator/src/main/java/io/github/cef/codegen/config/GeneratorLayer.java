@@ -22,17 +22,18 @@ public class GeneratorLayer {
         String sourceFolder
     ) {
         addLayer(files, apiPackage, sourceFolder, PROTOCOL,
-            HTTP_METHOD, API_REQUEST, API_RESPONSE, MULTIPART_FILE);
+            HTTP_METHOD, API_REQUEST, API_RESPONSE, MULTIPART_FILE, REQUEST_URL, JSON_CODEC, REQUEST_BODY);
 
         addLayer(files, apiPackage, sourceFolder, ROUTING,
-            ROUTE_TREE, ROUTE_NODE);
+            ROUTE_TREE, ROUTE_NODE, ROUTE_CACHE, ROUTE_TABLE, PREFIX_TREE, CONTAINS_AUTOMATON,
+            ROUTE_DECISION, PATH_VARIABLES, ROUTE_HANDLERS);
 
         addLayer(files, apiPackage, sourceFolder, CEF,
             API_CEF_REQUEST_HANDLER, API_CEF_REQUEST_HANDLER_BUILDER,
-            API_RESOURCE_REQUEST_HANDLER, API_RESPONSE_HANDLER);
+            API_RESOURCE_REQUEST_HANDLER, API_RESPONSE_HANDLER, URL_FILTER, ASYNC_RESPONSE_HANDLER, FILE_BODY);
 
         addLayer(files, apiPackage, sourceFolder, UTIL,
-            CONTENT_TYPE_RESOLVER, MULTIPART_PARSER);
+            CONTENT_TYPE_RESOLVER, MULTIPART_PARSER, RESPONSE_BUFFER);
 
         addLayer(files, apiPackage, sourceFolder, EXCEPTION,
             API_EXCEPTION, BAD_REQUEST_EXCEPTION, NOT_FOUND_EXCEPTION,
@@ -40,15 +41,26 @@ public class GeneratorLayer {
             VALIDATION_EXCEPTION);
 
         addLayer(files, apiPackage, sourceFolder, VALIDATION,
-            PARAMETER_VALIDATOR);
+            PARAMETER_VALIDATOR, OPERATION_VALIDATORS);
 
         addLayer(files, apiPackage, sourceFolder, INTERCEPTOR,
-            REQUEST_INTERCEPTOR, CORS_INTERCEPTOR, VALIDATION_INTERCEPTOR,
+            REQUEST_INTERCEPTOR, INTERCEPTOR_CHAIN, CORS_INTERCEPTOR, VALIDATION_INTERCEPTOR,
             URL_FILTER_INTERCEPTOR, API_KEY_AUTH_INTERCEPTOR,
             BEARER_AUTH_INTERCEPTOR, BASIC_AUTH_INTERCEPTOR,
             EXCEPTION_HANDLER, COMPOSITE_EXCEPTION_HANDLER);
     }
 
+    /**
+     * Registers the generation-time compiled router (opt-in, Java only).
+     */
+    public void registerCompiledRouter(
+        List<SupportingFile> files,
+        String apiPackage,
+        String sourceFolder
+    ) {
+        addLayer(files, apiPackage, sourceFolder, ROUTING, COMPILED_ROUTER);
+    }
+
     private void addLayer(
         List<SupportingFile> files,
         String apiPackage,
@@ -0,0 +1,203 @@
+package io.github.cef.codegen.processing;
+
+import lombok.experimental.UtilityClass;
+import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.model.OperationsMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds the Mustache data for the generation-time compiled router.
+ *
+ * All API paths are known when the generator runs, so instead of inserting
+ * them into a runtime trie the generator flattens them into a node list:
+ * one generated method per trie node, a {@code switch} over the hash of the
+ * literal child segments, and for each route the segment positions of its
+ * path variables.
+ */
+@UtilityClass
+public class CompiledRouterModel {
+
+    public static final String ROUTER_KEY = "compiledRoutes";
+    public static final String ROUTE_INDEX_KEY = "x-route-index";
+
+    private final String API_INFO_KEY = "apiInfo";
+    private final String APIS_KEY = "apis";
+
+    /**
+     * A route as seen by the router: path pattern and upper-case HTTP method.
+     */
+    public record RouteSpec(String path, String httpMethod) {
+    }
+
+    /**
+     * Assigns each operation in the supporting-file bundle a route index
+     * ({@value #ROUTE_INDEX_KEY} vendor extension) and stores the router
+     * model under {@value #ROUTER_KEY}.
+     */
+    @SuppressWarnings("unchecked")
+    public void apply(Map<String, Object> bundle) {
+        var apiInfo = (Map<String, Object>) bundle.get(API_INFO_KEY);
+        if (apiInfo == null) return;
+
+        var apis = (List<OperationsMap>) apiInfo.get(APIS_KEY);
+        if (apis == null) return;
+
+        var routes = new ArrayList<RouteSpec>();
+        for (var api : apis) {
+            for (CodegenOperation op : api.getOperations().getOperation()) {
+                op.vendorExtensions.put(ROUTE_INDEX_KEY, routes.size());
+                routes.add(new RouteSpec(op.path, op.httpMethod.toUpperCase()));
+            }
+        }
+        bundle.put(ROUTER_KEY, build(routes));
+    }
+
+    /**
+     * Builds the router model for routes in registration order.
+     * A later route with the same path and method replaces an earlier one,
+     * as it would in the runtime route tree.
+     */
+    public Map<String, Object> build(List<RouteSpec> routes) {
+        var root = new Node(0);
+        var nodes = new ArrayList<Node>();
+        nodes.add(root);
+
+        var routeModels = new ArrayList<Map<String, Object>>();
+
+        for (int index = 0; index < routes.size(); index++) {
+            var route = routes.get(index);
+            var node = root;
+            // Last occurrence wins for repeated variable names, as with a map
+            var variables = new LinkedHashMap<String, Integer>();
+            int position = 0;
+
+            for (var segment : route.path().split("/")) {
+                if (segment.isEmpty()) continue;
+
+                if (isTemplate(segment)) {
+                    if (node.templateChild == null) {
+                        node.templateChild = new Node(nodes.size());
+                        nodes.add(node.templateChild);
+                    }
+                    variables.remove(variableName(segment));
+                    variables.put(variableName(segment), position);
+                    node = node.templateChild;
+                } else {
+                    var parent = node;
+                    node = parent.literals.computeIfAbsent(segment, s -> {
+                        var child = new Node(nodes.size());
+                        nodes.add(child);
+                        return child;
+                    });
+                }
+                position++;
+            }
+
+            node.handlers.put(route.httpMethod(), index);
+            routeModels.add(routeModel(index, route, variables));
+        }
+
+        var model = new LinkedHashMap<String, Object>();
+        model.put("routes", routeModels);
+        model.put("nodes", nodes.stream().map(Node::toModel).toList());
+        model.put("routeCount", routes.size());
+        return model;
+    }
+
+    private Map<String, Object> routeModel(
+        int index,
+        RouteSpec route,
+        Map<String, Integer> variables
+    ) {
+        var variableModels = new ArrayList<Map<String, Object>>();
+        for (var entry : variables.entrySet()) {
+            variableModels.add(Map.of(
+                "name", javaString(entry.getKey()),
+                "segment", entry.getValue()));
+        }
+
+        var model = new LinkedHashMap<String, Object>();
+        model.put("index", index);
+        model.put("pattern", javaString(route.path()));
+        model.put("httpMethod", route.httpMethod());
+        model.put("variables", variableModels);
+        model.put("hasVariables", !variableModels.isEmpty());
+        return model;
+    }
+
+    private boolean isTemplate(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private String variableName(String segment) {
+        return segment.substring(1, segment.length() - 1);
+    }
+
+    /**
+     * Escapes a value for use inside a Java string literal.
+     */
+    private String javaString(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Trie node while the model is built. Literal children are sorted
+     * so the generated switch is stable between runs.
+     *
+     * The generated code hashes the path region of a segment the way
+     * {@link String#hashCode()} does, so literals are grouped by that hash;
+     * a group has more than one literal only on a hash collision.
+     */
+    private final class Node {
+        final int id;
+        final Map<String, Node> literals = new TreeMap<>();
+        final Map<String, Integer> handlers = new TreeMap<>();
+        Node templateChild;
+
+        Node(int id) {
+            this.id = id;
+        }
+
+        Map<String, Object> toModel() {
+            var groups = new TreeMap<Integer, List<Map<String, Object>>>();
+            for (var entry : literals.entrySet()) {
+                groups.computeIfAbsent(entry.getKey().hashCode(), h -> new ArrayList<>()).add(Map.of(
+                    "segment", javaString(entry.getKey()),
+                    "child", entry.getValue().id));
+            }
+            var groupModels = new ArrayList<Map<String, Object>>();
+            for (var group : groups.entrySet()) {
+                groupModels.add(Map.of(
+                    "hash", group.getKey(),
+                    "literals", group.getValue()));
+            }
+
+            var handlerModels = new ArrayList<Map<String, Object>>();
+            for (var entry : handlers.entrySet()) {
+                handlerModels.add(Map.of(
+                    "httpMethod", entry.getKey(),
+                    "route", entry.getValue()));
+            }
+
+            var model = new LinkedHashMap<String, Object>();
+            model.put("id", id);
+            model.put("literalGroups", groupModels);
+            model.put("hasLiterals", !groupModels.isEmpty());
+            model.put("hasTemplate", templateChild != null);
+            if (templateChild != null) {
+                model.put("templateChild", templateChild.id);
+            }
+            model.put("terminal", !handlerModels.isEmpty());
+            model.put("handlers", handlerModels);
+            if (!handlerModels.isEmpty()) {
+                model.put("anyRoute", handlerModels.get(0).get("route"));
+            }
+            return model;
+        }
+    }
+}
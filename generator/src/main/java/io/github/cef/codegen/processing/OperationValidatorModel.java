@@ -0,0 +1,223 @@
+package io.github.cef.codegen.processing;
+
+import lombok.experimental.UtilityClass;
+import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenParameter;
+import org.openapitools.codegen.model.OperationsMap;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the Mustache data for the generated per-operation validators and
+ * parameter binding.
+ *
+ * Runs after {@link ParameterConstraintExtractor}. Path, query, header and
+ * cookie parameters of a type the generated code can decode (strings, numbers and
+ * booleans) are bound: decoded once into the operation's typed parameter
+ * holder. Bound parameters that are required or have a constraint the
+ * validator implements are also validated. For those the model precomputes
+ * what the templates cannot express, such as the value kind to parse,
+ * method and constant names, and bound literals that compile for the
+ * parsed type.
+ */
+@UtilityClass
+public class OperationValidatorModel {
+
+    /** Operation has at least one parameter to validate. */
+    public static final String HAS_VALIDATOR_KEY = "x-has-param-validator";
+    /** Operation has at least one parameter to bind. */
+    public static final String HAS_BINDING_KEY = "x-has-param-binding";
+    /** Bound parameters of an operation, in declaration order. */
+    public static final String BOUND_PARAMS_KEY = "x-bound-params";
+    /** Parameter is checked by its operation's validator. */
+    public static final String VALIDATE_KEY = "x-validate";
+    /** Parameter is decoded into its operation's parameter holder. */
+    public static final String BIND_KEY = "x-bind";
+
+    private final String API_INFO_KEY = "apiInfo";
+    private final String APIS_KEY = "apis";
+
+    /**
+     * How a bound value is held and decoded: Java and Kotlin holder types,
+     * Java local type, Java and Kotlin parse functions, and the type named
+     * in error messages.
+     */
+    private record Kind(
+        String javaType,
+        String kotlinType,
+        String valueType,
+        String javaParse,
+        String kotlinParse,
+        String description,
+        boolean decimal
+    ) {
+    }
+
+    /**
+     * Marks the operations in the supporting-file bundle and their
+     * bound and validated parameters.
+     */
+    @SuppressWarnings("unchecked")
+    public void apply(Map<String, Object> bundle) {
+        var apiInfo = (Map<String, Object>) bundle.get(API_INFO_KEY);
+        if (apiInfo == null) return;
+
+        var apis = (List<OperationsMap>) apiInfo.get(APIS_KEY);
+        if (apis == null) return;
+
+        for (var api : apis) {
+            for (CodegenOperation op : api.getOperations().getOperation()) {
+                apply(op);
+            }
+        }
+    }
+
+    /**
+     * Marks one operation and its bound and validated parameters.
+     */
+    public void apply(CodegenOperation op) {
+        var bound = new ArrayList<CodegenParameter>();
+        boolean anyValidated = false;
+        for (var param : op.allParams) {
+            var kind = kindOf(param);
+            boolean validated = kind != null && isValidated(param, kind);
+            param.vendorExtensions.put(BIND_KEY, kind != null);
+            param.vendorExtensions.put(VALIDATE_KEY, validated);
+            if (kind != null) {
+                describe(param, kind);
+                bound.add(param);
+            }
+            anyValidated |= validated;
+        }
+        op.vendorExtensions.put(BOUND_PARAMS_KEY, bound);
+        op.vendorExtensions.put(HAS_BINDING_KEY, !bound.isEmpty());
+        op.vendorExtensions.put(HAS_VALIDATOR_KEY, anyValidated);
+    }
+
+    /**
+     * Decoding of a path, query, header or cookie parameter by its data type, or
+     * null if the parameter is not bound. Strings have no parse function.
+     */
+    private Kind kindOf(CodegenParameter param) {
+        if (!(param.isPathParam || param.isQueryParam || param.isHeaderParam || param.isCookieParam)
+            || param.dataType == null) {
+            return null;
+        }
+        var type = param.dataType.substring(param.dataType.lastIndexOf('.') + 1);
+        return switch (type) {
+            case "String" -> new Kind("String", "String", "String", null, null, "string", false);
+            case "Integer", "Int" -> new Kind("Integer", "Int", "int",
+                "Integer.parseInt", "toInt", "integer", false);
+            case "Long" -> new Kind("Long", "Long", "long",
+                "Long.parseLong", "toLong", "integer", false);
+            case "Float" -> new Kind("Float", "Float", "float",
+                "Float.parseFloat", "toFloat", "number", false);
+            case "Double" -> new Kind("Double", "Double", "double",
+                "Double.parseDouble", "toDouble", "number", false);
+            case "BigDecimal" -> new Kind("java.math.BigDecimal", "java.math.BigDecimal", "java.math.BigDecimal",
+                "new java.math.BigDecimal", "toBigDecimal", "number", true);
+            case "Boolean" -> new Kind("Boolean", "Boolean", "boolean",
+                "parseBoolean", "toBooleanStrict", "boolean", false);
+            default -> null;
+        };
+    }
+
+    private boolean isString(Kind kind) {
+        return kind.javaParse() == null;
+    }
+
+    private boolean isValidated(CodegenParameter param, Kind kind) {
+        if (param.required) return true;
+
+        var ext = param.vendorExtensions;
+        if (isString(kind)) {
+            return ext.containsKey("x-min-length")
+                || ext.containsKey("x-max-length")
+                || ext.containsKey("x-pattern")
+                || Boolean.TRUE.equals(ext.get("x-has-enum-values"));
+        }
+        return hasBounds(param, kind);
+    }
+
+    private boolean hasBounds(CodegenParameter param, Kind kind) {
+        return !"boolean".equals(kind.valueType())
+            && (param.vendorExtensions.containsKey("x-minimum")
+                || param.vendorExtensions.containsKey("x-maximum"));
+    }
+
+    private void describe(CodegenParameter param, Kind kind) {
+        var ext = param.vendorExtensions;
+        var name = param.paramName;
+        ext.put("x-check-method",
+            "check" + Character.toUpperCase(name.charAt(0)) + name.substring(1));
+        ext.put("x-constant-name", constantName(name));
+        ext.put("x-java-type", kind.javaType());
+        ext.put("x-kotlin-type", kind.kotlinType());
+        // Required strings and every parsed value treat "" as missing
+        ext.put("x-empty-is-missing", param.required || !isString(kind));
+
+        if (isString(kind)) {
+            ext.put("x-kind-string", true);
+            if (Boolean.TRUE.equals(ext.get("x-has-enum-values"))) {
+                ext.put("x-enum-values-text",
+                    String.valueOf(ext.get("x-enum-values-string")).replace("\"", ""));
+            }
+            return;
+        }
+
+        ext.put("x-kind-parsed", true);
+        ext.put("x-value-type", kind.valueType());
+        ext.put("x-java-parse", kind.javaParse());
+        ext.put("x-kotlin-parse", kind.kotlinParse());
+        ext.put("x-type-description", kind.description());
+        // Decimals are compared by their double value against the literal bounds
+        ext.put("x-java-compare", kind.decimal() ? "value.doubleValue()" : "value");
+        ext.put("x-kotlin-compare", kind.decimal() ? "value.toDouble()" : "value");
+        if (hasBounds(param, kind)) {
+            ext.put("x-has-bounds", true);
+            putBound(ext, "x-minimum", "long".equals(kind.valueType()));
+            putBound(ext, "x-maximum", "long".equals(kind.valueType()));
+        }
+    }
+
+    /**
+     * Stores a bound as a literal comparable with the parsed value
+     * ({@code key-literal}) and as text for messages ({@code key-text}).
+     */
+    private void putBound(Map<String, Object> ext, String key, boolean isLong) {
+        var value = ext.get(key);
+        if (value == null) return;
+
+        var bound = new BigDecimal(value.toString());
+        var text = bound.stripTrailingZeros().toPlainString();
+        var literal = text;
+        if (isIntegral(bound)
+            && (isLong || bound.abs().compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) > 0)) {
+            literal = text + "L";
+        }
+        ext.put(key + "-literal", literal);
+        ext.put(key + "-text", text);
+    }
+
+    private boolean isIntegral(BigDecimal value) {
+        return value.signum() == 0 || value.stripTrailingZeros().scale() <= 0;
+    }
+
+    /**
+     * Converts a camelCase parameter name to UPPER_SNAKE_CASE.
+     */
+    private String constantName(String name) {
+        var result = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(name.charAt(i - 1))) {
+                result.append('_');
+            }
+            result.append(Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : '_');
+        }
+        return result.toString();
+    }
+}
@@ -91,24 +91,40 @@ class CefCodegenTest {
             assertTrue(templates.contains("protocol/apiRequest.mustache"));
             assertTrue(templates.contains("protocol/apiResponse.mustache"));
             assertTrue(templates.contains("protocol/multipartFile.mustache"));
+            assertTrue(templates.contains("protocol/requestUrl.mustache"));
+            assertTrue(templates.contains("protocol/jsonCodec.mustache"));
+            assertTrue(templates.contains("protocol/requestBody.mustache"));
             // Routing
             assertTrue(templates.contains("routing/routeTree.mustache"));
             assertTrue(templates.contains("routing/routeNode.mustache"));
+            assertTrue(templates.contains("routing/routeCache.mustache"));
+            assertTrue(templates.contains("routing/routeTable.mustache"));
+            assertTrue(templates.contains("routing/prefixTree.mustache"));
+            assertTrue(templates.contains("routing/containsAutomaton.mustache"));
+            assertTrue(templates.contains("routing/routeDecision.mustache"));
+            assertTrue(templates.contains("routing/pathVariables.mustache"));
+            assertTrue(templates.contains("routing/routeHandlers.mustache"));
             // Exception
             assertTrue(templates.contains("exception/apiException.mustache"));
             assertTrue(templates.contains("exception/validationException.mustache"));
             // Validation
             assertTrue(templates.contains("validation/parameterValidator.mustache"));
+            assertTrue(templates.contains("validation/operationValidators.mustache"));
             // Interceptor
             assertTrue(templates.contains("interceptor/requestInterceptor.mustache"));
+            assertTrue(templates.contains("interceptor/interceptorChain.mustache"));
             assertTrue(templates.contains("interceptor/corsInterceptor.mustache"));
             assertTrue(templates.contains("interceptor/validationInterceptor.mustache"));
             // CEF
             assertTrue(templates.contains("cef/apiCefRequestHandler.mustache"));
             assertTrue(templates.contains("cef/apiCefRequestHandlerBuilder.mustache"));
+            assertTrue(templates.contains("cef/urlFilter.mustache"));
+            assertTrue(templates.contains("cef/asyncResponseHandler.mustache"));
+            assertTrue(templates.contains("cef/fileBody.mustache"));
             // Utility
             assertTrue(templates.contains("util/contentTypeResolver.mustache"));
             assertTrue(templates.contains("util/multipartParser.mustache"));
+            assertTrue(templates.contains("util/responseBuffer.mustache"));
         }
 
         @Test void layerOutputFilenames() {
@@ -124,6 +140,32 @@ class CefCodegenTest {
             assertTrue(filenames.stream().anyMatch(f -> f.contains("ContentTypeResolver")));
         }
 
+        @Test void compiledRouterIsOptIn() {
+            var templates = codegen.supportingFiles().stream()
+                .map(sf -> sf.getTemplateFile()).toList();
+            assertFalse(templates.contains("routing/compiledRouter.mustache"));
+
+            codegen.supportingFiles().clear();
+            codegen.additionalProperties().put("compiledRouter", "true");
+            codegen.processOpts();
+
+            templates = codegen.supportingFiles().stream()
+                .map(sf -> sf.getTemplateFile()).toList();
+            assertTrue(templates.contains("routing/compiledRouter.mustache"));
+        }
+
+        @Test void jacksonBytecodeModule() {
+            codegen.additionalProperties().put("jacksonBytecodeModule", "Blackbird");
+            codegen.processOpts();
+            assertEquals(true, codegen.additionalProperties().get("jacksonBlackbird"));
+            assertFalse(codegen.additionalProperties().containsKey("jacksonAfterburner"));
+        }
+
+        @Test void unknownJacksonBytecodeModule() {
+            codegen.additionalProperties().put("jacksonBytecodeModule", "asm");
+            assertThrows(IllegalArgumentException.class, () -> codegen.processOpts());
+        }
+
         @Test void modelNamingSuffix() {
             codegen.additionalProperties().put("modelSuffix", "Dto");
             codegen.processOpts();
@@ -73,6 +73,15 @@ class CefKotlinCodegenTest {
             assertFalse(codegen.modelTemplateFiles().containsValue(".java"));
         }
 
+        @Test void compiledRouterIsJavaOnly() {
+            codegen.additionalProperties().put("compiledRouter", "true");
+            codegen.processOpts();
+            assertTrue(codegen.supportingFiles().stream()
+                .noneMatch(sf -> sf.getTemplateFile().contains("compiledRouter")));
+            assertTrue(codegen.cliOptions().stream()
+                .noneMatch(option -> "compiledRouter".equals(option.getOpt())));
+        }
+
         @Test void apiTemplatesUseKt() {
             var values = codegen.apiTemplateFiles().values();
             assertTrue(values.stream().allMatch(v -> v.endsWith(".kt")));
@@ -62,12 +62,15 @@ class IntegrationTest {
             assertFileExists(javaRoot, "com/example/api/protocol/ApiRequest.java");
             assertFileExists(javaRoot, "com/example/api/protocol/ApiResponse.java");
             assertFileExists(javaRoot, "com/example/api/protocol/HttpMethod.java");
+            assertFileExists(javaRoot, "com/example/api/protocol/RequestBody.java");
             assertFileExists(javaRoot, "com/example/api/routing/RouteTree.java");
             assertFileExists(javaRoot, "com/example/api/cef/ApiCefRequestHandler.java");
             assertFileExists(javaRoot, "com/example/api/cef/ApiCefRequestHandlerBuilder.java");
             assertFileExists(javaRoot, "com/example/api/exception/ApiException.java");
             assertFileExists(javaRoot, "com/example/api/interceptor/RequestInterceptor.java");
+            assertFileExists(javaRoot, "com/example/api/interceptor/InterceptorChain.java");
             assertFileExists(javaRoot, "com/example/api/validation/ParameterValidator.java");
+            assertFileExists(javaRoot, "com/example/api/validation/OperationValidators.java");
         }
 
         @Test
@@ -79,6 +82,17 @@ class IntegrationTest {
             assertTrue(content.contains("ADMIN"), "Enum should have ADMIN constant");
         }
 
+        @Test
+        void jsonCodecListsModels(@TempDir Path outputDir) {
+            generate("cef", outputDir);
+            var content = readFile(outputDir.resolve("src/main/java/com/example/api/protocol/JsonCodec.java"));
+            assertTrue(content.contains("com.example.api.dto.User.class,"), "Should prebuild User codecs");
+            assertTrue(content.contains("com.example.api.dto.CreateUserRequest.class,"),
+                "Should prebuild CreateUserRequest codecs");
+            assertFalse(content.contains("dto.Role.class"), "Enums need no prebuilt codecs");
+            assertFalse(content.contains("BlackbirdModule"), "Bytecode modules should be opt-in");
+        }
+
         @Test
         void builderContainsApiRoutes(@TempDir Path outputDir) {
             generate("cef", outputDir);
@@ -230,6 +244,47 @@ class IntegrationTest {
             assertFalse(content.contains("static Builder builder()"), "Should NOT have Builder");
         }
 
+        @Test
+        void compiledRouterJava(@TempDir Path outputDir) {
+            generateWith("cef", outputDir, Map.of("compiledRouter", "true"));
+            var javaRoot = outputDir.resolve("src/main/java");
+            assertFileContains(javaRoot, "com/example/api/routing/CompiledRouter.java",
+                "implements RouteTree.CompiledRoutes");
+            assertFileContains(javaRoot, "com/example/api/routing/CompiledRouter.java",
+                "matches(path, start, end, \"users\")");
+            assertFileContains(javaRoot, "com/example/api/cef/ApiCefRequestHandlerBuilder.java",
+                "compiledRouter.register(");
+            assertFileContains(javaRoot, "com/example/api/cef/ApiCefRequestHandlerBuilder.java",
+                "routeTree.setCompiledRoutes(compiledRouter);");
+        }
+
+        @Test
+        void jacksonBytecodeModuleJava(@TempDir Path outputDir) {
+            generateWith("cef", outputDir, Map.of("jacksonBytecodeModule", "blackbird"));
+            var content = readFile(outputDir.resolve("src/main/java/com/example/api/protocol/JsonCodec.java"));
+            assertTrue(content.contains("mapper.registerModule(new BlackbirdModule());"),
+                "Default mapper should register Blackbird");
+            assertFalse(content.contains("AfterburnerModule"), "Only the chosen module");
+        }
+
+        @Test
+        void jacksonBytecodeModuleKotlin(@TempDir Path outputDir) {
+            generateWith("cef-kotlin", outputDir, Map.of("jacksonBytecodeModule", "afterburner"));
+            var content = readFile(outputDir.resolve("src/main/kotlin/com/example/api/protocol/JsonCodec.kt"));
+            assertTrue(content.contains("jacksonObjectMapper().registerModule(AfterburnerModule())"),
+                "Default mapper should register Afterburner");
+        }
+
+        @Test
+        void noCompiledRouterWithoutOption(@TempDir Path outputDir) {
+            generate("cef", outputDir);
+            var javaRoot = outputDir.resolve("src/main/java");
+            assertFalse(Files.exists(javaRoot.resolve("com/example/api/routing/CompiledRouter.java")),
+                "CompiledRouter should be opt-in");
+            var content = readFile(javaRoot.resolve("com/example/api/cef/ApiCefRequestHandlerBuilder.java"));
+            assertFalse(content.contains("CompiledRouter"), "Builder should use the route tree only");
+        }
+
         @Test
         void additionalModelTypeAnnotations(@TempDir Path outputDir) {
             generateWith("cef-kotlin", outputDir,
@@ -0,0 +1,133 @@
+package io.github.cef.codegen.processing;
+
+import io.github.cef.codegen.processing.CompiledRouterModel.RouteSpec;
+import org.junit.jupiter.api.Test;
+import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.model.OperationMap;
+import org.openapitools.codegen.model.OperationsMap;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledRouterModelTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void buildsOneNodePerTrieNode() {
+        var model = CompiledRouterModel.build(List.of(
+            new RouteSpec("/api/users", "GET"),
+            new RouteSpec("/api/users/{id}", "GET"),
+            new RouteSpec("/api/users/{id}", "DELETE"),
+            new RouteSpec("/api/users/admin", "GET")));
+
+        var nodes = (List<Map<String, Object>>) model.get("nodes");
+        // root, api, users, {id}, admin
+        assertEquals(5, nodes.size());
+        assertEquals(4, model.get("routeCount"));
+
+        var users = nodes.get(2);
+        assertTrue((Boolean) users.get("terminal"));
+        assertTrue((Boolean) users.get("hasTemplate"));
+        var groups = (List<Map<String, Object>>) users.get("literalGroups");
+        assertEquals("admin".hashCode(), groups.get(0).get("hash"));
+        var literals = (List<Map<String, Object>>) groups.get(0).get("literals");
+        assertEquals("admin", literals.get(0).get("segment"));
+
+        var id = nodes.get((Integer) users.get("templateChild"));
+        var handlers = (List<Map<String, Object>>) id.get("handlers");
+        assertEquals(2, handlers.size());
+        assertEquals("DELETE", handlers.get(0).get("httpMethod"));
+        assertEquals(2, handlers.get(0).get("route"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void variablesKeepRouteOwnNamesAndSegmentPositions() {
+        var model = CompiledRouterModel.build(List.of(
+            new RouteSpec("/users/{id}", "GET"),
+            new RouteSpec("/users/{userId}/posts/{postId}", "GET")));
+
+        var routes = (List<Map<String, Object>>) model.get("routes");
+        var variables = (List<Map<String, Object>>) routes.get(1).get("variables");
+        assertEquals("userId", variables.get(0).get("name"));
+        assertEquals(1, variables.get(0).get("segment"));
+        assertEquals("postId", variables.get(1).get("name"));
+        assertEquals(3, variables.get(1).get("segment"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void collidingLiteralsShareHashGroup() {
+        // "Aa" and "BB" have the same String.hashCode()
+        var model = CompiledRouterModel.build(List.of(
+            new RouteSpec("/Aa", "GET"),
+            new RouteSpec("/BB", "GET"),
+            new RouteSpec("/c", "GET")));
+
+        var nodes = (List<Map<String, Object>>) model.get("nodes");
+        var groups = (List<Map<String, Object>>) nodes.get(0).get("literalGroups");
+        assertEquals(2, groups.size());
+        var colliding = groups.stream()
+            .filter(group -> group.get("hash").equals("Aa".hashCode()))
+            .findFirst().orElseThrow();
+        assertEquals(2, ((List<?>) colliding.get("literals")).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void laterDuplicateRouteWins() {
+        var model = CompiledRouterModel.build(List.of(
+            new RouteSpec("/health", "GET"),
+            new RouteSpec("/health", "GET")));
+
+        var nodes = (List<Map<String, Object>>) model.get("nodes");
+        var handlers = (List<Map<String, Object>>) nodes.get(1).get("handlers");
+        assertEquals(1, handlers.size());
+        assertEquals(1, handlers.get(0).get("route"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void escapesJavaStringLiterals() {
+        var model = CompiledRouterModel.build(List.of(
+            new RouteSpec("/files/a\"b", "GET")));
+
+        var routes = (List<Map<String, Object>>) model.get("routes");
+        assertEquals("/files/a\\\"b", routes.get(0).get("pattern"));
+    }
+
+    @Test
+    void applyAssignsRouteIndexToOperations() {
+        var first = operation("/api/users", "GET");
+        var second = operation("/api/users/{userId}", "DELETE");
+
+        var operations = new OperationMap();
+        operations.setOperation(List.of(first, second));
+        var api = new OperationsMap();
+        api.setOperation(operations);
+
+        var bundle = new HashMap<String, Object>();
+        bundle.put("apiInfo", Map.of("apis", List.of(api)));
+
+        CompiledRouterModel.apply(bundle);
+
+        assertEquals(0, first.vendorExtensions.get("x-route-index"));
+        assertEquals(1, second.vendorExtensions.get("x-route-index"));
+        assertTrue(bundle.containsKey("compiledRoutes"));
+    }
+
+    @Test
+    void applyWithoutApiInfoIsNoOp() {
+        var bundle = new HashMap<String, Object>();
+        CompiledRouterModel.apply(bundle);
+        assertFalse(bundle.containsKey("compiledRoutes"));
+    }
+
+    private CodegenOperation operation(String path, String httpMethod) {
+        var op = new CodegenOperation();
+        op.path = path;
+        op.httpMethod = httpMethod;
+        return op;
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.cef.codegen.processing;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenParameter;
+import org.openapitools.codegen.model.OperationMap;
+import org.openapitools.codegen.model.OperationsMap;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OperationValidatorModelTest {
+
+    @Test
+    void marksOperationWithValidatedParameter() {
+        var taskId = param("taskId");
+        taskId.isPathParam = true;
+        taskId.dataType = "String";
+        taskId.required = true;
+        var op = operation(taskId);
+
+        OperationValidatorModel.apply(op);
+
+        assertTrue((Boolean) op.vendorExtensions.get("x-has-param-validator"));
+        assertTrue((Boolean) taskId.vendorExtensions.get("x-validate"));
+        assertEquals("checkTaskId", taskId.vendorExtensions.get("x-check-method"));
+        assertEquals("TASK_ID", taskId.vendorExtensions.get("x-constant-name"));
+        assertTrue((Boolean) taskId.vendorExtensions.get("x-empty-is-missing"));
+    }
+
+    @Test
+    void skipsParametersWithoutCheckedConstraints() {
+        var search = param("search");
+        search.isQueryParam = true;
+        search.dataType = "String";
+        search.vendorExtensions.put("x-format", "email");
+        var body = param("body");
+        body.isBodyParam = true;
+        body.required = true;
+        var op = operation(search, body);
+
+        OperationValidatorModel.apply(op);
+
+        assertFalse((Boolean) op.vendorExtensions.get("x-has-param-validator"));
+        assertFalse((Boolean) search.vendorExtensions.get("x-validate"));
+        assertFalse((Boolean) body.vendorExtensions.get("x-validate"));
+        assertTrue((Boolean) search.vendorExtensions.get("x-bind"));
+        assertFalse((Boolean) body.vendorExtensions.get("x-bind"));
+        assertEquals(List.of(search), op.vendorExtensions.get("x-bound-params"));
+    }
+
+    @Test
+    void bindsParsedParametersWithoutConstraints() {
+        var verbose = param("verbose");
+        verbose.isQueryParam = true;
+        verbose.dataType = "Boolean";
+        var limit = param("limit");
+        limit.isHeaderParam = true;
+        limit.dataType = "java.math.BigDecimal";
+        var op = operation(verbose, limit);
+
+        OperationValidatorModel.apply(op);
+
+        assertTrue((Boolean) op.vendorExtensions.get("x-has-param-binding"));
+        assertFalse((Boolean) op.vendorExtensions.get("x-has-param-validator"));
+        assertEquals("boolean", verbose.vendorExtensions.get("x-value-type"));
+        assertEquals("Boolean", verbose.vendorExtensions.get("x-java-type"));
+        assertEquals("toBooleanStrict", verbose.vendorExtensions.get("x-kotlin-parse"));
+        assertEquals("new java.math.BigDecimal", limit.vendorExtensions.get("x-java-parse"));
+        assertEquals("value.doubleValue()", limit.vendorExtensions.get("x-java-compare"));
+        assertFalse(limit.vendorExtensions.containsKey("x-has-bounds"));
+    }
+
+    @Test
+    void bindsCookieParameters() {
+        var session = param("session");
+        session.isCookieParam = true;
+        session.dataType = "String";
+        session.required = true;
+        var visits = param("visits");
+        visits.isCookieParam = true;
+        visits.dataType = "Integer";
+        var op = operation(session, visits);
+
+        OperationValidatorModel.apply(op);
+
+        assertTrue((Boolean) op.vendorExtensions.get("x-has-param-binding"));
+        assertTrue((Boolean) op.vendorExtensions.get("x-has-param-validator"));
+        assertTrue((Boolean) session.vendorExtensions.get("x-validate"));
+        assertTrue((Boolean) visits.vendorExtensions.get("x-bind"));
+        assertFalse((Boolean) visits.vendorExtensions.get("x-validate"));
+        assertEquals("Integer.parseInt", visits.vendorExtensions.get("x-java-parse"));
+        assertEquals(List.of(session, visits), op.vendorExtensions.get("x-bound-params"));
+    }
+
+    @Test
+    void skipsUnsupportedTypes() {
+        var since = param("since");
+        since.isQueryParam = true;
+        since.dataType = "LocalDate";
+        since.required = true;
+        var op = operation(since);
+
+        OperationValidatorModel.apply(op);
+
+        assertFalse((Boolean) op.vendorExtensions.get("x-has-param-binding"));
+        assertFalse((Boolean) op.vendorExtensions.get("x-has-param-validator"));
+        assertFalse((Boolean) since.vendorExtensions.get("x-bind"));
+    }
+
+    @Test
+    void optionalStringKeepsEmptyValue() {
+        var status = param("status");
+        status.isQueryParam = true;
+        status.dataType = "String";
+        status.vendorExtensions.put("x-has-enum-values", true);
+        status.vendorExtensions.put("x-enum-values-string", "\"pending\", \"done\"");
+
+        OperationValidatorModel.apply(operation(status));
+
+        assertFalse((Boolean) status.vendorExtensions.get("x-empty-is-missing"));
+        assertEquals("pending, done", status.vendorExtensions.get("x-enum-values-text"));
+    }
+
+    @Test
+    void integerBoundsBecomeLiterals() {
+        var page = param("page");
+        page.isQueryParam = true;
+        page.dataType = "Integer";
+        page.vendorExtensions.put("x-minimum", new BigDecimal("1.0"));
+        page.vendorExtensions.put("x-maximum", new BigDecimal("10000000000"));
+
+        OperationValidatorModel.apply(operation(page));
+
+        assertEquals("int", page.vendorExtensions.get("x-value-type"));
+        assertEquals("Integer.parseInt", page.vendorExtensions.get("x-java-parse"));
+        assertEquals("toInt", page.vendorExtensions.get("x-kotlin-parse"));
+        assertTrue((Boolean) page.vendorExtensions.get("x-has-bounds"));
+        assertEquals("1", page.vendorExtensions.get("x-minimum-literal"));
+        assertEquals("1", page.vendorExtensions.get("x-minimum-text"));
+        assertEquals("10000000000L", page.vendorExtensions.get("x-maximum-literal"));
+        assertEquals("10000000000", page.vendorExtensions.get("x-maximum-text"));
+    }
+
+    @Test
+    void longAndNumberKinds() {
+        var offset = param("offset");
+        offset.isQueryParam = true;
+        offset.dataType = "Long";
+        offset.vendorExtensions.put("x-minimum", new BigDecimal("0"));
+        var ratio = param("ratio");
+        ratio.isHeaderParam = true;
+        ratio.dataType = "Double";
+        ratio.vendorExtensions.put("x-maximum", new BigDecimal("0.5"));
+
+        OperationValidatorModel.apply(operation(offset, ratio));
+
+        assertEquals("long", offset.vendorExtensions.get("x-value-type"));
+        assertEquals("0L", offset.vendorExtensions.get("x-minimum-literal"));
+        assertEquals("double", ratio.vendorExtensions.get("x-value-type"));
+        assertEquals("number", ratio.vendorExtensions.get("x-type-description"));
+        assertEquals("0.5", ratio.vendorExtensions.get("x-maximum-literal"));
+    }
+
+    @Test
+    void bindsParametersNamedLikeBindArguments() {
+        // bind(request, validate, failFast) prefixes its locals, so these names need no renaming
+        var errors = param("errors");
+        errors.isQueryParam = true;
+        errors.dataType = "Integer";
+        errors.vendorExtensions.put("x-minimum", new BigDecimal("1"));
+        var request = param("request");
+        request.isQueryParam = true;
+        request.dataType = "String";
+        request.required = true;
+        var failFast = param("failFast");
+        failFast.isHeaderParam = true;
+        failFast.dataType = "Boolean";
+        var op = operation(errors, request, failFast);
+
+        OperationValidatorModel.apply(op);
+
+        assertEquals(List.of(errors, request, failFast), op.vendorExtensions.get("x-bound-params"));
+        assertEquals("errors", errors.paramName);
+        assertEquals("checkErrors", errors.vendorExtensions.get("x-check-method"));
+        assertEquals("checkRequest", request.vendorExtensions.get("x-check-method"));
+        assertTrue((Boolean) request.vendorExtensions.get("x-validate"));
+        assertEquals("parseBoolean", failFast.vendorExtensions.get("x-java-parse"));
+    }
+
+    @Test
+    void applyWalksBundleOperations() {
+        var taskId = param("taskId");
+        taskId.isPathParam = true;
+        taskId.dataType = "String";
+        taskId.required = true;
+        var op = operation(taskId);
+
+        var operations = new OperationMap();
+        operations.setOperation(List.of(op));
+        var api = new OperationsMap();
+        api.setOperation(operations);
+        var bundle = new HashMap<String, Object>();
+        bundle.put("apiInfo", Map.of("apis", List.of(api)));
+
+        OperationValidatorModel.apply(bundle);
+
+        assertTrue((Boolean) op.vendorExtensions.get("x-has-param-validator"));
+    }
+
+    private CodegenParameter param(String name) {
+        var param = new CodegenParameter();
+        param.paramName = name;
+        param.baseName = name;
+        param.vendorExtensions = new HashMap<>();
+        return param;
+    }
+
+    private CodegenOperation operation(CodegenParameter... params) {
+        var op = new CodegenOperation();
+        op.allParams = new ArrayList<>(List.of(params));
+        return op;
+    }
+}